@@ -0,0 +1,30 @@
+package com.insider.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Runs all framework benchmarks and writes the results as JSON to {@code benchmark.result}
+ * (default {@code target/jmh-results.json}). Any arguments are passed to the standard JMH command
+ * line instead, e.g. {@code java -jar target/benchmarks.jar ClickBenchmark -rf json}.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        if (args.length > 0) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        Options options = new OptionsBuilder()
+                .include(BenchmarkRunner.class.getPackageName() + ".*Benchmark")
+                .resultFormat(ResultFormatType.JSON)
+                .result(System.getProperty("benchmark.result", "target/jmh-results.json"))
+                .build();
+        new Runner(options).run();
+    }
+}
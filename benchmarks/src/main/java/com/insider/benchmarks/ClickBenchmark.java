@@ -0,0 +1,49 @@
+package com.insider.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Native WebDriver clicks against the JavaScript {@code arguments[0].click()} fallback used by
+ * {@code BasePage.clickElement}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClickBenchmark {
+
+    @Param({"NATIVE", "JAVASCRIPT"})
+    public String clickMode;
+
+    private WebDriver driver;
+    private WebElement button;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = HeadlessBrowser.start();
+        driver.get(HeadlessBrowser.fixtureUrl("open-positions.html"));
+        button = driver.findElement(By.id("action-button"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        driver.quit();
+    }
+
+    @Benchmark
+    public void clickButton() {
+        if ("NATIVE".equals(clickMode)) {
+            button.click();
+        } else {
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", button);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.insider.benchmarks;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Starts the headless Chrome used by every benchmark and serves the static HTML fixtures from a
+ * temporary directory, so results do not depend on the network or on the live site.
+ */
+public class HeadlessBrowser {
+
+    private static Path fixtureDir;
+
+    public static WebDriver start() {
+        WebDriverManager.chromedriver().setup();
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--window-size=1920,1080", "--no-sandbox", "--disable-dev-shm-usage");
+        return new ChromeDriver(options);
+    }
+
+    public static synchronized String fixtureUrl(String name) {
+        try {
+            if (fixtureDir == null) {
+                fixtureDir = Files.createTempDirectory("insider-benchmark-fixtures");
+            }
+            Path fixture = fixtureDir.resolve(name);
+            if (!Files.exists(fixture)) {
+                try (InputStream in = HeadlessBrowser.class.getResourceAsStream("/fixtures/" + name)) {
+                    if (in == null) {
+                        throw new IllegalArgumentException("Benchmark fixture not found on the classpath: fixtures/" + name);
+                    }
+                    Files.copy(in, fixture, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            return fixture.toUri().toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to prepare benchmark fixture " + name, e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.insider.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * XPath text-matching locators as used in {@code CareersPage}/{@code HomePage} against structural
+ * CSS selectors for the same elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocatorBenchmark {
+
+    @Param({"XPATH", "CSS"})
+    public String strategy;
+
+    private WebDriver driver;
+    private By sectionHeading;
+    private By seeAllTeamsButton;
+    private By companyMenu;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = HeadlessBrowser.start();
+        driver.get(HeadlessBrowser.fixtureUrl("careers.html"));
+        if ("XPATH".equals(strategy)) {
+            sectionHeading = By.xpath("//h3[normalize-space(.)='Our Locations']");
+            seeAllTeamsButton = By.xpath("//a[normalize-space(.)='See all teams']");
+            companyMenu = By.xpath("//a[normalize-space(.)='Company']");
+        } else {
+            sectionHeading = By.cssSelector("#career-our-location h3");
+            seeAllTeamsButton = By.cssSelector("#career-find-our-calling a.btn");
+            companyMenu = By.cssSelector(".nav-item.dropdown > a.dropdown-toggle");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        driver.quit();
+    }
+
+    @Benchmark
+    public WebElement findSectionHeading() {
+        return driver.findElement(sectionHeading);
+    }
+
+    @Benchmark
+    public WebElement findSeeAllTeamsButton() {
+        return driver.findElement(seeAllTeamsButton);
+    }
+
+    @Benchmark
+    public WebElement findCompanyMenu() {
+        return driver.findElement(companyMenu);
+    }
+}
@@ -0,0 +1,59 @@
+package com.insider.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Reading the texts of the 50 job titles one element at a time against a single script that returns
+ * all visible texts in one round-trip, as {@code BasePage.extractRecords} does with
+ * {@code LocatorUtils.READ_RECORD_FUNCTION}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextReadBenchmark {
+
+    private static final By JOB_TITLES = By.cssSelector("#jobs-list .position-title");
+    private static final String BATCH_READ_SCRIPT =
+            "return Array.prototype.slice.call(document.querySelectorAll(arguments[0]))" +
+            "  .filter(function (el) { return el.getClientRects().length > 0; })" +
+            "  .map(function (el) { return el.innerText.trim(); });";
+
+    @Param({"PER_ELEMENT", "SCRIPT_BATCH"})
+    public String readMode;
+
+    private WebDriver driver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = HeadlessBrowser.start();
+        driver.get(HeadlessBrowser.fixtureUrl("open-positions.html"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        driver.quit();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<String> readJobTitles() {
+        if ("PER_ELEMENT".equals(readMode)) {
+            return driver.findElements(JOB_TITLES).stream()
+                    .filter(WebElement::isDisplayed)
+                    .map(WebElement::getText)
+                    .collect(Collectors.toList());
+        }
+        return (List<String>) ((JavascriptExecutor) driver).executeScript(BATCH_READ_SCRIPT, "#jobs-list .position-title");
+    }
+}
@@ -0,0 +1,55 @@
+package com.insider.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time until a {@code WebDriverWait} notices an element that appears {@code appearAfterMillis} after
+ * the wait starts, for different polling intervals. Anything above {@code appearAfterMillis} is
+ * overhead added by the polling interval and the WebDriver round-trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class WaitPollingBenchmark {
+
+    private static final By DELAYED_TARGET = By.id("delayed-target");
+
+    @Param({"50", "100", "250", "500"})
+    public long pollingMillis;
+
+    @Param({"300"})
+    public long appearAfterMillis;
+
+    private WebDriver driver;
+    private WebDriverWait wait;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = HeadlessBrowser.start();
+        driver.get(HeadlessBrowser.fixtureUrl("open-positions.html"));
+        wait = new WebDriverWait(driver, Duration.ofSeconds(10), Duration.ofMillis(pollingMillis));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        driver.quit();
+    }
+
+    @Benchmark
+    public WebElement waitForDelayedElement() {
+        ((JavascriptExecutor) driver).executeScript("showAfter(arguments[0]);", appearAfterMillis);
+        return wait.until(ExpectedConditions.visibilityOfElementLocated(DELAYED_TARGET));
+    }
+}
@@ -0,0 +1,228 @@
+package com.insider.artifacts;
+
+import com.insider.enums.BrowserType;
+import com.insider.utils.ConfigReader;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Failure artifacts: the screenshot, page source, URL and browser console of a failed test are
+ * read on the test thread in one quick step, then compressed into a zip and written to
+ * {@code artifacts.dir} by a single background thread. The directory is capped by
+ * {@code artifacts.max.files} and {@code artifacts.max.total.mb}; the oldest archives are deleted first.
+ */
+public class FailureArtifacts {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailureArtifacts.class);
+    private static final boolean ENABLED = ConfigReader.getBooleanProperty("artifacts.enabled", true);
+    private static final boolean CONSOLE_LOGS = ConfigReader.getBooleanProperty("artifacts.console.logs", true);
+    private static final Path ARTIFACT_DIR = Paths.get(ConfigReader.getProperty("artifacts.dir", "target/failure-artifacts"));
+    private static final int MAX_FILES = ConfigReader.getIntProperty("artifacts.max.files", 100);
+    private static final long MAX_TOTAL_BYTES = ConfigReader.getIntProperty("artifacts.max.total.mb", 200) * 1024L * 1024L;
+    private static final int MAX_CONSOLE_ENTRIES = 200;
+
+    private static final ThreadPoolExecutor writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, ConfigReader.getIntProperty("artifacts.queue.capacity", 20))),
+            runnable -> {
+                Thread thread = new Thread(runnable, "failure-artifact-writer");
+                thread.setDaemon(true);
+                return thread;
+            },
+            (task, executor) -> logger.warn("Failure artifact queue is full. Dropping artifacts of a failed test."));
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Asks Chromium browsers to keep their console output so it can be attached to failures.
+     * Firefox does not expose console logs through WebDriver.
+     */
+    public static void enableConsoleLogs(MutableCapabilities options, BrowserType browserType) {
+        if (!ENABLED || !CONSOLE_LOGS || browserType == BrowserType.FIREFOX) {
+            return;
+        }
+        LoggingPreferences preferences = new LoggingPreferences();
+        preferences.enable(LogType.BROWSER, Level.ALL);
+        options.setCapability(browserType == BrowserType.EDGE ? EdgeOptions.LOGGING_PREFS : ChromeOptions.LOGGING_PREFS, preferences);
+    }
+
+    /**
+     * Reads the failure state from the browser. Each part is optional: a browser that no longer
+     * responds still yields the parts captured before it stopped.
+     */
+    public static FailureSnapshot capture(WebDriver driver, String testId, Throwable failure) {
+        long start = System.nanoTime();
+        String url = null;
+        byte[] screenshot = null;
+        String pageSource = null;
+        List<String> consoleLogs = new ArrayList<>();
+        try {
+            url = driver.getCurrentUrl();
+            if (driver instanceof TakesScreenshot) {
+                screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            }
+            pageSource = driver.getPageSource();
+            if (CONSOLE_LOGS) {
+                consoleLogs = readConsoleLogs(driver);
+            }
+        } catch (WebDriverException e) {
+            logger.warn("Failure artifacts for {} are incomplete. Browser error: {}", testId, e.getMessage());
+        }
+        logger.debug("Failure state of {} captured in {} ms.", testId, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return new FailureSnapshot(testId, System.currentTimeMillis(), url, screenshot, pageSource, consoleLogs, stackTrace(failure));
+    }
+
+    public static void submit(FailureSnapshot snapshot) {
+        writer.execute(() -> write(snapshot));
+    }
+
+    /**
+     * Waits for queued artifacts to be written, e.g. when the suite finishes.
+     */
+    public static void awaitPending(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while ((writer.getActiveCount() > 0 || !writer.getQueue().isEmpty()) && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        if (writer.getActiveCount() > 0 || !writer.getQueue().isEmpty()) {
+            logger.warn("Failure artifacts still being written after {} ms.", timeoutMillis);
+        }
+    }
+
+    private static List<String> readConsoleLogs(WebDriver driver) {
+        try {
+            List<LogEntry> entries = driver.manage().logs().get(LogType.BROWSER).getAll();
+            return entries.stream()
+                    .skip(Math.max(0, entries.size() - MAX_CONSOLE_ENTRIES))
+                    .map(entry -> new Date(entry.getTimestamp()) + " " + entry.getLevel() + " " + entry.getMessage())
+                    .collect(Collectors.toList());
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            logger.debug("Browser console logs are not available: {}", e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    private static void write(FailureSnapshot snapshot) {
+        String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date(snapshot.capturedAtMillis()));
+        String baseName = timestamp + "_" + sanitize(snapshot.testId());
+        Path archive = ARTIFACT_DIR.resolve(baseName + ".zip");
+        try {
+            Files.createDirectories(ARTIFACT_DIR);
+            Path temp = Files.createTempFile(ARTIFACT_DIR, baseName, ".tmp");
+            try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(temp))) {
+                addEntry(zip, "failure.txt", ("Test: " + snapshot.testId() + System.lineSeparator()
+                        + "Captured: " + new Date(snapshot.capturedAtMillis()) + System.lineSeparator()
+                        + "URL: " + snapshot.url() + System.lineSeparator() + System.lineSeparator()
+                        + snapshot.failure()).getBytes(StandardCharsets.UTF_8));
+                if (snapshot.screenshot() != null) {
+                    zip.setLevel(Deflater.NO_COMPRESSION);
+                    addEntry(zip, "screenshot.png", snapshot.screenshot());
+                    zip.setLevel(Deflater.DEFAULT_COMPRESSION);
+                }
+                if (snapshot.pageSource() != null) {
+                    addEntry(zip, "page.html", snapshot.pageSource().getBytes(StandardCharsets.UTF_8));
+                }
+                if (!snapshot.consoleLogs().isEmpty()) {
+                    addEntry(zip, "console.log", String.join(System.lineSeparator(), snapshot.consoleLogs()).getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            Files.move(temp, archive, StandardCopyOption.REPLACE_EXISTING);
+            logger.info("Failure artifacts of {} written to: {}", snapshot.testId(), archive.toAbsolutePath());
+            rotate();
+        } catch (IOException e) {
+            logger.error("Failed to write failure artifacts to {}. Error: {}", archive, e.getMessage(), e);
+        }
+    }
+
+    private static void addEntry(ZipOutputStream zip, String name, byte[] content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content);
+        zip.closeEntry();
+    }
+
+    /**
+     * Deletes the oldest archives until both the file count and the total size are within limits.
+     */
+    private static void rotate() throws IOException {
+        List<Path> archives;
+        try (Stream<Path> files = Files.list(ARTIFACT_DIR)) {
+            archives = files.filter(file -> file.getFileName().toString().endsWith(".zip"))
+                    .sorted(Comparator.comparing(FailureArtifacts::lastModified).reversed())
+                    .collect(Collectors.toList());
+        }
+        long totalBytes = 0;
+        int deleted = 0;
+        for (int i = 0; i < archives.size(); i++) {
+            Path archive = archives.get(i);
+            totalBytes += Files.size(archive);
+            if (i >= MAX_FILES || (MAX_TOTAL_BYTES > 0 && totalBytes > MAX_TOTAL_BYTES && i > 0)) {
+                Files.deleteIfExists(archive);
+                deleted++;
+            }
+        }
+        if (deleted > 0) {
+            logger.info("Rotated out {} old failure artifact archive(s) from {}.", deleted, ARTIFACT_DIR);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static String sanitize(String testId) {
+        String name = testId.replaceAll("[^A-Za-z0-9._-]+", "_");
+        return name.length() > 120 ? name.substring(0, 120) : name;
+    }
+
+    private static String stackTrace(Throwable failure) {
+        if (failure == null) {
+            return "";
+        }
+        StringWriter trace = new StringWriter();
+        failure.printStackTrace(new PrintWriter(trace));
+        return trace.toString();
+    }
+}
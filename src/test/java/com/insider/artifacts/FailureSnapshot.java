@@ -0,0 +1,16 @@
+package com.insider.artifacts;
+
+import java.util.List;
+
+/**
+ * Everything read from the browser when a test fails, held in memory until
+ * {@link FailureArtifacts} writes it to disk.
+ */
+public record FailureSnapshot(String testId,
+                              long capturedAtMillis,
+                              String url,
+                              byte[] screenshot,
+                              String pageSource,
+                              List<String> consoleLogs,
+                              String failure) {
+}
@@ -1,32 +1,90 @@
 package com.insider.base;
 
 import com.insider.driver.DriverManager;
+import com.insider.enums.BrowserType;
 import com.insider.pages.BasePage;
+import com.insider.performance.PagePerformanceMonitor;
 import com.insider.utils.ConfigReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
-import org.testng.annotations.Optional;
+import org.testng.annotations.BeforeSuite;
+
+import java.util.Arrays;
 
 public abstract class BaseTest extends BasePage {
 
     protected static final Logger logger = LoggerFactory.getLogger(BaseTest.class);
 
+    @BeforeSuite(alwaysRun = true)
+    public void warmUpDrivers() {
+        logger.info("Preparing WebDriver session pool for the suite.");
+        DriverManager.warmUpPool();
+    }
+
+    /**
+     * A {@link BrowserType} among the test's parameters (added by the browser matrix) selects the
+     * browser of this invocation through a thread-local configuration override.
+     */
     @BeforeMethod
-    public void setUp(@Optional("default") String browser) {
+    public void setUp(ITestResult testResult) {
         logger.info("Starting test setup for method: {}", getClass().getSimpleName());
-        DriverManager.getDriver();
+        Arrays.stream(testResult.getParameters())
+                .filter(BrowserType.class::isInstance)
+                .findFirst()
+                .ifPresent(browser -> {
+                    ConfigReader.setThreadOverride("browser.type", browser.toString());
+                    testResult.setAttribute("browser", browser.toString());
+                });
+        DriverManager.getDriver(getClass().getName());
         logger.debug("WebDriver instance successfully initialized for the current thread.");
+        if (opensHomePageOnSetUp()) {
+            openHomePage();
+        }
+    }
+
+    /**
+     * After a failure the session is always reset, so a retry or the next row starts from a clean,
+     * still warm browser instead of the page state that made the test fail.
+     */
+    @AfterMethod(alwaysRun = true)
+    public void tearDown(ITestResult testResult) {
+        logger.info("Tearing down test environment for method.");
+        DriverManager.releaseDriver(keepsSessionStateBetweenTests() && testResult.isSuccess());
+        ConfigReader.clearThreadOverrides();
+        logger.debug("WebDriver instance released for the current thread.");
+    }
+
+    /**
+     * Tests that pick their own entry point (e.g. reusing a page left open by the previous row)
+     * return false and call {@link #openHomePage()} themselves when needed.
+     */
+    protected boolean opensHomePageOnSetUp() {
+        return true;
+    }
+
+    /**
+     * When true, a pooled session is returned without clearing cookies, storage and the current
+     * page, and is only leased again by tests of the same class, so the next one can continue
+     * where the previous one stopped. Has no effect without the session pool: the browser is quit.
+     */
+    protected boolean keepsSessionStateBetweenTests() {
+        return false;
+    }
+
+    protected void openHomePage() {
         String appUrl = ConfigReader.getProperty("app.url");
         DriverManager.getDriver().get(appUrl);
         logger.info("Navigated to the application at URL: {}", appUrl);
+        PagePerformanceMonitor.capture("home");
     }
 
-    @AfterMethod
-    public void tearDown() {
-        logger.info("Tearing down test environment for method.");
-        DriverManager.quitDriver();
-        logger.debug("WebDriver instance shut down for the current thread.");
+    @AfterSuite(alwaysRun = true)
+    public void shutDownDrivers() {
+        logger.info("Shutting down WebDriver session pool.");
+        DriverManager.shutdownPool();
     }
 }
\ No newline at end of file
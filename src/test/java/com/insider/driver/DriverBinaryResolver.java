@@ -0,0 +1,172 @@
+package com.insider.driver;
+
+import com.insider.enums.BrowserType;
+import com.insider.utils.ConfigReader;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the local driver binary (chromedriver, geckodriver, msedgedriver) once per JVM and
+ * browser, and remembers it in {@code driver.cache.file} keyed by browser and major browser
+ * version. Later runs with the same browser version start without any WebDriverManager lookup;
+ * with {@code driver.offline=true} only the cache or an explicit {@code driver.binary.<browser>}
+ * path is used and the network is never contacted.
+ */
+public class DriverBinaryResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverBinaryResolver.class);
+    private static final boolean OFFLINE = ConfigReader.getBooleanProperty("driver.offline", false);
+    private static final Path CACHE_FILE = Paths.get(ConfigReader.getProperty("driver.cache.file",
+            Paths.get(System.getProperty("user.home"), ".cache", "insider-qa", "driver-binaries.properties").toString()));
+    private static final Pattern VERSION_PATTERN = Pattern.compile("(\\d+)\\.[\\d.]+");
+    private static final Map<BrowserType, String> resolvedBinaries = new ConcurrentHashMap<>();
+
+    public static String resolve(BrowserType browserType) {
+        return resolvedBinaries.computeIfAbsent(browserType, DriverBinaryResolver::resolveOnce);
+    }
+
+    private static String resolveOnce(BrowserType browserType) {
+        long start = System.nanoTime();
+        String explicit = ConfigReader.getProperty("driver.binary." + browserType.name().toLowerCase(), "");
+        if (!explicit.isEmpty()) {
+            if (!Files.isExecutable(Paths.get(explicit))) {
+                throw new IllegalStateException("Configured driver binary for " + browserType + " is not an executable file: " + explicit);
+            }
+            return use(browserType, explicit, "driver.binary." + browserType.name().toLowerCase(), start);
+        }
+
+        WebDriverManager manager = managerFor(browserType);
+        Optional<String> majorVersion = detectMajorBrowserVersion(manager);
+        String cacheKey = browserType.name().toLowerCase() + "." + majorVersion.orElse("unknown");
+        String cached = loadCache().getProperty(cacheKey);
+        if (cached != null && Files.isExecutable(Paths.get(cached))) {
+            return use(browserType, cached, "cache entry " + cacheKey, start);
+        }
+        if (OFFLINE) {
+            throw new IllegalStateException("Offline driver resolution found no cached " + browserType + " driver for browser version "
+                    + majorVersion.orElse("unknown") + " in " + CACHE_FILE.toAbsolutePath() + ". Run once with driver.offline=false or set "
+                    + "driver.binary." + browserType.name().toLowerCase() + " to a local driver executable.");
+        }
+
+        manager.setup();
+        String downloaded = manager.getDownloadedDriverPath();
+        if (downloaded == null) {
+            throw new IllegalStateException("WebDriverManager could not resolve a driver binary for " + browserType + ".");
+        }
+        // Stored under the key this lookup used as well, so a browser whose version cannot be read
+        // locally is still found in the cache by the next (e.g. offline) run.
+        String resolvedKey = browserType.name().toLowerCase() + "." + majorVersion
+                .orElseGet(() -> majorOf(manager.getResolvedBrowserVersion()).orElse("unknown"));
+        storeInCache(downloaded, Set.of(cacheKey, resolvedKey));
+        return use(browserType, downloaded, "WebDriverManager", start);
+    }
+
+    private static String use(BrowserType browserType, String binary, String source, long startNanos) {
+        System.setProperty(driverSystemProperty(browserType), binary);
+        logger.info("Using {} driver binary {} (from {}, resolved in {} ms).", browserType, binary, source,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return binary;
+    }
+
+    /**
+     * Reads the installed browser's version from its own {@code --version} output, which needs no
+     * network access. Empty when the browser cannot be found or does not report a version this way.
+     */
+    private static Optional<String> detectMajorBrowserVersion(WebDriverManager manager) {
+        try {
+            Optional<Path> browserPath = manager.getBrowserPath();
+            if (browserPath.isEmpty()) {
+                return Optional.empty();
+            }
+            Process process = new ProcessBuilder(browserPath.get().toString(), "--version").redirectErrorStream(true).start();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return Optional.empty();
+            }
+            return majorOf(new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Browser version detection failed: {}", e.getMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<String> majorOf(String version) {
+        if (version == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = VERSION_PATTERN.matcher(version);
+        return matcher.find() ? Optional.of(matcher.group(1)) : Optional.empty();
+    }
+
+    private static WebDriverManager managerFor(BrowserType browserType) {
+        switch (browserType) {
+            case FIREFOX:
+                return WebDriverManager.firefoxdriver();
+            case EDGE:
+                return WebDriverManager.edgedriver();
+            case CHROME:
+            default:
+                return WebDriverManager.chromedriver();
+        }
+    }
+
+    private static String driverSystemProperty(BrowserType browserType) {
+        switch (browserType) {
+            case FIREFOX:
+                return "webdriver.gecko.driver";
+            case EDGE:
+                return "webdriver.edge.driver";
+            case CHROME:
+            default:
+                return "webdriver.chrome.driver";
+        }
+    }
+
+    private static synchronized Properties loadCache() {
+        Properties cache = new Properties();
+        if (Files.exists(CACHE_FILE)) {
+            try (InputStream in = Files.newInputStream(CACHE_FILE)) {
+                cache.load(in);
+            } catch (IOException e) {
+                logger.warn("Ignoring unreadable driver binary cache {}. Error: {}", CACHE_FILE, e.getMessage());
+            }
+        }
+        return cache;
+    }
+
+    private static synchronized void storeInCache(String binary, Set<String> keys) {
+        Properties cache = loadCache();
+        keys.forEach(key -> cache.setProperty(key, binary));
+        try {
+            Files.createDirectories(CACHE_FILE.toAbsolutePath().getParent());
+            Path temp = Files.createTempFile(CACHE_FILE.toAbsolutePath().getParent(), "driver-binaries", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                cache.store(out, "Driver binaries by <browser>.<major browser version>");
+            }
+            Files.move(temp, CACHE_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Failed to update driver binary cache {}. Error: {}", CACHE_FILE, e.getMessage());
+        }
+    }
+}
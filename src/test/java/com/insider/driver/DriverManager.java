@@ -1,67 +1,332 @@
 package com.insider.driver;
 
+import com.insider.artifacts.FailureArtifacts;
 import com.insider.enums.BrowserType;
+import com.insider.metrics.StepMetrics;
+import com.insider.performance.PagePerformanceMonitor;
+import com.insider.replay.ReplayManager;
+import com.insider.utils.BrowserMatrix;
 import com.insider.utils.ConfigReader;
+import com.insider.utils.ExecutionSettings;
 import com.insider.utils.WaitUtils;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 
 public class DriverManager {
 
     private static final Logger logger = LoggerFactory.getLogger(DriverManager.class);
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<DriverPool> leasedFromThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<String> sessionOwnerThreadLocal = new ThreadLocal<>();
+    private static final Map<BrowserType, DriverPool> driverPools = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, DiskCacheSlot> diskCacheSlots = new ConcurrentHashMap<>();
+    private static volatile boolean shutdownHookRegistered;
 
 
+    /**
+     * Returns the current thread's session, starting or leasing one for the thread's
+     * {@code browser.type} (which a browser-matrix invocation overrides per thread).
+     */
     public static WebDriver getDriver() {
+        return getDriver(null);
+    }
+
+    /**
+     * Same as {@link #getDriver()}, but a pooled session that {@code owner} (e.g. a test class)
+     * released with its state kept is leased again first. Only the owner gets such a session back.
+     */
+    public static WebDriver getDriver(String owner) {
         if (driverThreadLocal.get() == null) {
+            long start = System.nanoTime();
+            BrowserType browserType = getBrowserType();
             WebDriver driver;
+            if (isPoolEnabled()) {
+                DriverPool pool = getPool(browserType);
+                driver = pool.lease(owner);
+                Optional<String> recycleReason = SessionWatchdog.recycleReason(driver);
+                while (recycleReason.isPresent()) {
+                    logger.info("Leased {} session is over its watchdog limit ({}). Recycling it.", browserType, recycleReason.get());
+                    pool.recycle(driver);
+                    driver = pool.lease(owner);
+                    recycleReason = SessionWatchdog.recycleReason(driver);
+                }
+                leasedFromThreadLocal.set(pool);
+                sessionOwnerThreadLocal.set(owner);
+                StepMetrics.record("driver.lease", browserType, start);
+            } else {
+                driver = createDriver(browserType);
+                StepMetrics.record("driver.create", browserType, start);
+            }
+            driverThreadLocal.set(driver);
+            logger.info("{} WebDriver session acquired and set for the current thread.", browserType);
+        }
+        return driverThreadLocal.get();
+    }
 
-            BrowserType browserType = BrowserType.valueOf(ConfigReader.getProperty("browser.type").toUpperCase());
-            logger.info("Initializing WebDriver for browser type: {}", browserType);
-
-            switch (browserType) {
-                case FIREFOX:
-                    WebDriverManager.firefoxdriver().setup();
-                    driver = new FirefoxDriver();
-                    logger.debug("FirefoxDriver initialized.");
-                    break;
-                case EDGE:
-                    WebDriverManager.edgedriver().setup();
-                    driver = new EdgeDriver();
-                    logger.debug("EdgeDriver initialized.");
-                    break;
-                case CHROME:
-                default:
-                    WebDriverManager.chromedriver().setup();
-                    driver = new ChromeDriver();
-                    logger.debug("ChromeDriver initialized.");
-                    break;
+    /**
+     * The current thread's session, if it has one; unlike {@link #getDriver()} never starts a browser.
+     */
+    public static Optional<WebDriver> getActiveDriver() {
+        return Optional.ofNullable(driverThreadLocal.get());
+    }
+
+    public static BrowserType getBrowserType() {
+        return BrowserType.valueOf(ConfigReader.getProperty("browser.type").toUpperCase());
+    }
+
+    static WebDriver createDriver(BrowserType browserType) {
+        WebDriver driver;
+        LaunchProfile profile = LaunchProfile.active();
+
+        if (isRemote()) {
+            driver = createRemoteDriver(browserType, profile);
+        } else {
+            logger.info("Initializing WebDriver for browser type: {} with launch profile '{}'", browserType, profile.name());
+            DriverBinaryResolver.resolve(browserType);
+            Path cacheDir = profile.hasDiskCache() ? profile.leaseDiskCache(browserType) : null;
+            try {
+                MutableCapabilities options = createOptions(browserType, profile, cacheDir);
+                switch (browserType) {
+                    case FIREFOX:
+                        driver = new FirefoxDriver((FirefoxOptions) options);
+                        logger.debug("FirefoxDriver initialized.");
+                        break;
+                    case EDGE:
+                        driver = new EdgeDriver((EdgeOptions) options);
+                        logger.debug("EdgeDriver initialized.");
+                        break;
+                    case CHROME:
+                    default:
+                        driver = new ChromeDriver((ChromeOptions) options);
+                        logger.debug("ChromeDriver initialized.");
+                        break;
+                }
+            } catch (RuntimeException e) {
+                if (cacheDir != null) {
+                    LaunchProfile.releaseDiskCache(browserType, cacheDir);
+                }
+                throw e;
+            }
+            if (cacheDir != null) {
+                diskCacheSlots.put(driver, new DiskCacheSlot(browserType, cacheDir));
             }
+            SessionWatchdog.track(driver, browserType);
+        }
+        registerShutdownHook();
 
-            driver.manage().window().maximize();
-            logger.debug("Browser window maximized.");
+        try {
+            profile.sizeWindow(driver);
+            NetworkProfile.active().applyTo(driver);
+            ReplayManager.attach(driver);
+        } catch (RuntimeException e) {
+            logger.error("Failed to prepare the new {} session. Quitting it so the browser is not left running.", browserType);
+            try {
+                destroyDriver(driver);
+            } catch (RuntimeException quitError) {
+                e.addSuppressed(quitError);
+            }
+            throw e;
+        }
+        return driver;
+    }
 
-            driverThreadLocal.set(driver);
-            logger.info("WebDriver successfully created and set for the current thread.");
+    /**
+     * Starts a session on the Selenium Grid at {@code grid.url}. The session is augmented so that
+     * DevTools-based features (network profiles, record/replay, performance metrics) keep working
+     * on Chromium nodes that expose CDP.
+     */
+    private static WebDriver createRemoteDriver(BrowserType browserType, LaunchProfile profile) {
+        String gridUrl = ConfigReader.getProperty("grid.url");
+        logger.info("Initializing RemoteWebDriver for browser type: {} on Grid: {}", browserType, gridUrl);
+        try {
+            WebDriver driver = new RemoteWebDriver(new URL(gridUrl), createOptions(browserType, profile, null));
+            logger.debug("RemoteWebDriver session {} started.", ((RemoteWebDriver) driver).getSessionId());
+            return new Augmenter().augment(driver);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid Selenium Grid URL in 'grid.url': " + gridUrl, e);
+        }
+    }
+
+    /**
+     * Browser options with the launch profile applied. Remote sessions get no disk cache, as the
+     * directory would have to exist on the Grid node.
+     */
+    private static MutableCapabilities createOptions(BrowserType browserType, LaunchProfile profile, Path cacheDir) {
+        MutableCapabilities options;
+        switch (browserType) {
+            case FIREFOX:
+                options = new FirefoxOptions();
+                break;
+            case EDGE:
+                options = new EdgeOptions();
+                break;
+            case CHROME:
+            default:
+                options = new ChromeOptions();
+                break;
+        }
+        profile.applyTo(options, cacheDir);
+        FailureArtifacts.enableConsoleLogs(options, browserType);
+        return options;
+    }
+
+    private static boolean isRemote() {
+        return "REMOTE".equalsIgnoreCase(ConfigReader.getProperty("driver.mode", "LOCAL"));
+    }
+
+    static void destroyDriver(WebDriver driver) {
+        ReplayManager.detach(driver);
+        try {
+            SessionWatchdog.terminate(driver, driver::quit);
+        } finally {
+            DiskCacheSlot slot = diskCacheSlots.remove(driver);
+            if (slot != null) {
+                LaunchProfile.releaseDiskCache(slot.browserType(), slot.directory());
+            }
+        }
+    }
+
+    /**
+     * Hands the current thread's session back. Pooled sessions are reset and kept warm for the
+     * next test; without a pool the browser is quit.
+     */
+    public static void releaseDriver() {
+        releaseDriver(false);
+    }
+
+    /**
+     * Same as {@link #releaseDriver()}, but with {@code keepState} a pooled session is returned
+     * as-is (page, cookies and storage intact) for the next test of the owner it was leased for
+     * (see {@link #getDriver(String)}). Without a pool the browser is quit and no state is kept.
+     */
+    public static void releaseDriver(boolean keepState) {
+        WebDriver driver = driverThreadLocal.get();
+        WaitUtils.resetWait();
+        PagePerformanceMonitor.reset();
+        if (driver == null) {
+            logger.warn("No WebDriver instance found for the current thread to release.");
+            return;
+        }
+        driverThreadLocal.remove();
+        DriverPool driverPool = leasedFromThreadLocal.get();
+        leasedFromThreadLocal.remove();
+        String owner = sessionOwnerThreadLocal.get();
+        sessionOwnerThreadLocal.remove();
+        if (keepState && driverPool == null) {
+            logger.info("Session state cannot be kept without the session pool (driver.pool.enabled=false). Quitting the browser.");
+        }
+        Optional<String> recycleReason = SessionWatchdog.recycleReason(driver);
+        if (recycleReason.isPresent()) {
+            logger.info("Recycling {} session at the test boundary: {}.", getBrowserType(), recycleReason.get());
+            if (driverPool != null) {
+                driverPool.recycle(driver);
+            } else {
+                destroyDriver(driver);
+            }
+        } else if (driverPool != null) {
+            driverPool.release(driver, !keepState, owner);
+            logger.debug("WebDriver returned to the session pool and removed from ThreadLocal.");
+        } else {
+            destroyDriver(driver);
+            logger.debug("WebDriver successfully quit and removed from ThreadLocal.");
         }
-        return driverThreadLocal.get();
     }
 
     public static void quitDriver() {
         if (driverThreadLocal.get() != null) {
             logger.info("Quitting WebDriver for the current thread.");
             WaitUtils.resetWait();
-            driverThreadLocal.get().quit();
+            PagePerformanceMonitor.reset();
+            WebDriver driver = driverThreadLocal.get();
             driverThreadLocal.remove();
+            DriverPool driverPool = leasedFromThreadLocal.get();
+            leasedFromThreadLocal.remove();
+            sessionOwnerThreadLocal.remove();
+            if (driverPool != null) {
+                driverPool.discard(driver);
+            } else {
+                destroyDriver(driver);
+            }
             logger.debug("WebDriver successfully quit and removed from ThreadLocal.");
         } else {
             logger.warn("No WebDriver instance found for the current thread to quit.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Pre-warms one pool per browser of the run ({@code browser.matrix}, or {@code browser.type}).
+     */
+    public static void warmUpPool() {
+        if (isPoolEnabled() && ConfigReader.getBooleanProperty("driver.pool.prewarm", true)) {
+            BrowserMatrix.getBrowsers().forEach(browserType -> getPool(browserType).warmUp());
+        }
+    }
+
+    /**
+     * Quits the pooled sessions, then lets the watchdog kill leftover browser processes and write
+     * its memory report.
+     */
+    public static void shutdownPool() {
+        new ArrayList<>(driverPools.values()).forEach(DriverPool::shutdown);
+        SessionWatchdog.shutdown();
+    }
+
+    private static boolean isPoolEnabled() {
+        return ConfigReader.getBooleanProperty("driver.pool.enabled", false);
+    }
+
+    private static DriverPool getPool(BrowserType browserType) {
+        return driverPools.computeIfAbsent(browserType, type -> {
+            DriverPool pool = new DriverPool(() -> createDriver(type), DriverManager::destroyDriver, getPoolSize(type),
+                    ConfigReader.getIntProperty("driver.pool.max.uses", 25),
+                    ConfigReader.getIntProperty("driver.pool.lease.timeout.seconds", 120),
+                    ConfigReader.getBooleanProperty("driver.pool.prewarm", true));
+            registerShutdownHook();
+            logger.info("WebDriver session pool created for {}.", type);
+            return pool;
+        });
+    }
+
+    /**
+     * The session budget ({@code driver.pool.size}, raised to the parallel thread count) is shared by
+     * the pools of all matrix browsers, so a matrix run holds no more live browsers than one browser
+     * would. The remainder goes to the first browsers; every pool gets at least one session.
+     */
+    private static int getPoolSize(BrowserType browserType) {
+        int budget = Math.max(ConfigReader.getIntProperty("driver.pool.size", 1), ExecutionSettings.getMaxConcurrentSessions());
+        List<BrowserType> browsers = BrowserMatrix.getBrowsers();
+        int index = browsers.indexOf(browserType);
+        int share = budget / browsers.size() + (index >= 0 && index < budget % browsers.size() ? 1 : 0);
+        return Math.max(1, share);
+    }
+
+    private static synchronized void registerShutdownHook() {
+        if (!shutdownHookRegistered) {
+            Runtime.getRuntime().addShutdownHook(new Thread(DriverManager::shutdownPool, "driver-shutdown"));
+            shutdownHookRegistered = true;
+        }
+    }
+
+    private record DiskCacheSlot(BrowserType browserType, Path directory) {
+    }
+}
@@ -0,0 +1,332 @@
+package com.insider.driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of browser sessions. Sessions are leased to a test thread, reset when they are
+ * returned and quit once they have served {@code maxUsesPerSession} tests. A session returned
+ * without a reset is kept for its owner (e.g. the test class) and only leased to that owner again,
+ * unless the pool runs out of sessions, in which case it is reset and handed to someone else.
+ */
+public class DriverPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(DriverPool.class);
+    private static final long LEASE_POLL_MILLIS = 500;
+
+    private final Supplier<WebDriver> driverFactory;
+    private final Consumer<WebDriver> driverDestroyer;
+    private final int maxSize;
+    private final int maxUsesPerSession;
+    private final long leaseTimeoutMillis;
+    private final boolean replenish;
+    private final Semaphore sessionPermits;
+    private final BlockingDeque<WebDriver> idleDrivers = new LinkedBlockingDeque<>();
+    private final Map<String, BlockingDeque<WebDriver>> keptDrivers = new ConcurrentHashMap<>();
+    private final Map<WebDriver, Integer> useCounts = new ConcurrentHashMap<>();
+    private final ExecutorService warmUpExecutor;
+    private volatile boolean shutdown;
+
+    public DriverPool(Supplier<WebDriver> driverFactory, Consumer<WebDriver> driverDestroyer, int maxSize,
+                      int maxUsesPerSession, long leaseTimeoutSeconds, boolean replenish) {
+        if (maxSize < 1 || maxUsesPerSession < 1) {
+            throw new IllegalArgumentException("Driver pool size and max uses must be positive, but found size="
+                    + maxSize + ", maxUses=" + maxUsesPerSession + ".");
+        }
+        this.driverFactory = driverFactory;
+        this.driverDestroyer = driverDestroyer;
+        this.maxSize = maxSize;
+        this.maxUsesPerSession = maxUsesPerSession;
+        this.leaseTimeoutMillis = TimeUnit.SECONDS.toMillis(leaseTimeoutSeconds);
+        this.replenish = replenish;
+        this.sessionPermits = new Semaphore(maxSize);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.warmUpExecutor = Executors.newFixedThreadPool(maxSize, runnable -> {
+            Thread thread = new Thread(runnable, "driver-pool-warmup-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void warmUp() {
+        logger.info("Pre-warming {} browser session(s) in the background.", maxSize);
+        for (int i = 0; i < maxSize; i++) {
+            warmUpExecutor.submit(this::createIdleSession);
+        }
+    }
+
+    public WebDriver lease() {
+        return lease(null);
+    }
+
+    /**
+     * Leases a session, preferring one that {@code owner} returned without a reset.
+     */
+    public WebDriver lease(String owner) {
+        long deadline = System.currentTimeMillis() + leaseTimeoutMillis;
+        try {
+            while (!shutdown) {
+                WebDriver driver = owner == null ? null : pollKept(owner);
+                if (driver != null) {
+                    logger.debug("Leased browser session kept for {} (uses so far: {}).", owner, useCounts.get(driver));
+                    return driver;
+                }
+                driver = idleDrivers.pollFirst();
+                if (driver != null) {
+                    logger.debug("Leased warm browser session (uses so far: {}).", useCounts.get(driver));
+                    return driver;
+                }
+                if (sessionPermits.tryAcquire()) {
+                    logger.debug("No idle session available. Starting a new browser session for this thread.");
+                    return createSession();
+                }
+                driver = takeOverKeptSession(owner);
+                if (driver != null) {
+                    return driver;
+                }
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    break;
+                }
+                driver = idleDrivers.pollFirst(Math.min(remaining, LEASE_POLL_MILLIS), TimeUnit.MILLISECONDS);
+                if (driver != null) {
+                    return driver;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a browser session from the pool.", e);
+        }
+        throw new IllegalStateException("No browser session became available within " + leaseTimeoutMillis
+                + " ms. Pool size: " + maxSize + ", pool shut down: " + shutdown + ".");
+    }
+
+    public void release(WebDriver driver) {
+        release(driver, true, null);
+    }
+
+    /**
+     * Returns a session to the pool. With {@code reset=false} the session keeps its current page,
+     * cookies and storage and is kept for {@code owner}; it is only recycled once it reaches the use
+     * limit. Without an owner the session is always reset.
+     */
+    public void release(WebDriver driver, boolean reset, String owner) {
+        int uses = useCounts.merge(driver, 1, Integer::sum);
+        if (shutdown) {
+            discard(driver);
+            return;
+        }
+        if (uses >= maxUsesPerSession) {
+            logger.info("Browser session reached {} use(s). Recycling it.", uses);
+            recycle(driver);
+            return;
+        }
+        if (!reset && owner != null) {
+            keptDrivers.computeIfAbsent(owner, key -> new LinkedBlockingDeque<>()).offerFirst(driver);
+            logger.debug("Browser session kept with its state for {} after {} use(s).", owner, uses);
+            return;
+        }
+        if (!resetSession(driver)) {
+            discard(driver);
+            return;
+        }
+        idleDrivers.offerFirst(driver);
+        logger.debug("Browser session returned to the pool after {} use(s).", uses);
+    }
+
+    /**
+     * Quits a session that should not be used again and, with replenishing enabled, starts a
+     * fresh one in the background to take its place.
+     */
+    public void recycle(WebDriver driver) {
+        discard(driver);
+        if (replenish && !shutdown) {
+            warmUpExecutor.submit(this::createIdleSession);
+        }
+    }
+
+    public void discard(WebDriver driver) {
+        if (useCounts.remove(driver) == null) {
+            return;
+        }
+        try {
+            driverDestroyer.accept(driver);
+        } catch (WebDriverException e) {
+            logger.warn("Failed to quit pooled browser session cleanly. Error: {}", e.getMessage());
+        } finally {
+            sessionPermits.release();
+        }
+    }
+
+    public void shutdown() {
+        if (shutdown) {
+            return;
+        }
+        shutdown = true;
+        warmUpExecutor.shutdownNow();
+        List<WebDriver> drivers = new ArrayList<>();
+        idleDrivers.drainTo(drivers);
+        keptDrivers.values().forEach(kept -> kept.drainTo(drivers));
+        drivers.forEach(this::discard);
+        logger.info("Driver pool shut down. Quit {} idle session(s).", drivers.size());
+    }
+
+    private WebDriver pollKept(String owner) {
+        BlockingDeque<WebDriver> kept = keptDrivers.get(owner);
+        return kept == null ? null : kept.pollFirst();
+    }
+
+    /**
+     * When every session is busy or kept for another owner, resets a session kept for someone
+     * else so this lease does not wait for sessions that may never be asked for again.
+     */
+    private WebDriver takeOverKeptSession(String owner) {
+        for (Map.Entry<String, BlockingDeque<WebDriver>> entry : keptDrivers.entrySet()) {
+            if (entry.getKey().equals(owner)) {
+                continue;
+            }
+            WebDriver driver = entry.getValue().pollLast();
+            if (driver == null) {
+                continue;
+            }
+            if (resetSession(driver)) {
+                logger.debug("Took over a browser session kept for {} after resetting it.", entry.getKey());
+                return driver;
+            }
+            discard(driver);
+        }
+        return null;
+    }
+
+    private WebDriver createSession() {
+        try {
+            WebDriver driver = driverFactory.get();
+            useCounts.put(driver, 0);
+            return driver;
+        } catch (RuntimeException e) {
+            sessionPermits.release();
+            throw e;
+        }
+    }
+
+    private void createIdleSession() {
+        if (shutdown || !sessionPermits.tryAcquire()) {
+            return;
+        }
+        try {
+            WebDriver driver = createSession();
+            if (shutdown) {
+                discard(driver);
+                return;
+            }
+            idleDrivers.offerLast(driver);
+            logger.debug("Warm browser session added to the pool.");
+        } catch (RuntimeException e) {
+            logger.warn("Failed to pre-warm a browser session. Error: {}", e.getMessage());
+        }
+    }
+
+    private boolean resetSession(WebDriver driver) {
+        try {
+            Set<String> origins = new LinkedHashSet<>();
+            List<String> handles = new ArrayList<>(driver.getWindowHandles());
+            for (int i = handles.size() - 1; i >= 0; i--) {
+                driver.switchTo().window(handles.get(i));
+                addOrigin(origins, driver.getCurrentUrl());
+                clearWebStorage(driver);
+                if (i > 0) {
+                    driver.close();
+                }
+            }
+            if (driver instanceof HasCdp) {
+                addCookieOrigins(origins, (HasCdp) driver);
+            }
+            driver.manage().deleteAllCookies();
+            if (driver instanceof HasCdp) {
+                ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Map.of());
+                clearOrigins((HasCdp) driver, origins);
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (WebDriverException e) {
+            logger.warn("Failed to reset browser session state. It will be discarded. Error: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * The page script only reaches the storage of the current origin; DevTools clears what the other
+     * origins the session visited (open windows and every site that set a cookie, e.g. an embedded
+     * or redirected one) left behind. DevTools has no wildcard origin, so each one is cleared.
+     */
+    private void clearOrigins(HasCdp driver, Set<String> origins) {
+        for (String origin : origins) {
+            try {
+                driver.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+            } catch (WebDriverException e) {
+                logger.warn("Storage of origin '{}' could not be cleared through DevTools: {}", origin, e.getMessage());
+            }
+        }
+    }
+
+    private void addCookieOrigins(Set<String> origins, HasCdp driver) {
+        try {
+            Object cookies = driver.executeCdpCommand("Network.getAllCookies", Map.of()).get("cookies");
+            if (!(cookies instanceof Collection)) {
+                return;
+            }
+            for (Object cookie : (Collection<?>) cookies) {
+                Map<?, ?> fields = (Map<?, ?>) cookie;
+                String domain = String.valueOf(fields.get("domain"));
+                String host = domain.startsWith(".") ? domain.substring(1) : domain;
+                origins.add("https://" + host);
+                if (!Boolean.TRUE.equals(fields.get("secure"))) {
+                    origins.add("http://" + host);
+                }
+            }
+        } catch (WebDriverException e) {
+            logger.warn("Cookie origins could not be read through DevTools: {}", e.getMessage());
+        }
+    }
+
+    private void addOrigin(Set<String> origins, String url) {
+        try {
+            URI uri = URI.create(url);
+            if ("http".equals(uri.getScheme()) || "https".equals(uri.getScheme())) {
+                origins.add(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort()));
+            }
+        } catch (IllegalArgumentException e) {
+            logger.debug("Origin of '{}' could not be determined: {}", url, e.getMessage());
+        }
+    }
+
+    private void clearWebStorage(WebDriver driver) {
+        try {
+            ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+        } catch (WebDriverException e) {
+            logger.debug("Web storage not accessible on the current page: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.insider.driver;
+
+import com.insider.enums.BrowserType;
+import com.insider.utils.ConfigReader;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.AbstractDriverOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Named browser launch profile applied to the options of every new session: headless mode,
+ * fixed window size, page-load strategy, disabled extensions/GPU and an optional disk cache.
+ * Profiles are declared as {@code launch.profile.<name>.*} and selected with {@code launch.profile}.
+ * <p>
+ * The disk cache lives in {@code <disk.cache.dir>/<browser>-<slot>}. A slot is used by one
+ * live browser at a time and handed to the next session when the browser quits, so concurrent
+ * browsers never share a cache directory while later sessions start with a warm cache.
+ */
+public record LaunchProfile(String name,
+                            boolean headless,
+                            Dimension windowSize,
+                            PageLoadStrategy pageLoadStrategy,
+                            boolean disableExtensions,
+                            boolean disableGpu,
+                            String diskCacheDir,
+                            int diskCacheSizeMb) {
+
+    private static final Logger logger = LoggerFactory.getLogger(LaunchProfile.class);
+    private static final Map<BrowserType, Queue<Path>> freeCacheSlots = new ConcurrentHashMap<>();
+    private static final Map<BrowserType, AtomicInteger> cacheSlotCounters = new ConcurrentHashMap<>();
+
+    public static LaunchProfile active() {
+        String name = ConfigReader.getProperty("launch.profile", "default");
+        String prefix = "launch.profile." + name + ".";
+        return new LaunchProfile(name,
+                ConfigReader.getBooleanProperty(prefix + "headless", false),
+                parseWindowSize(prefix + "window.size"),
+                parsePageLoadStrategy(prefix + "page.load.strategy"),
+                ConfigReader.getBooleanProperty(prefix + "disable.extensions", false),
+                ConfigReader.getBooleanProperty(prefix + "disable.gpu", false),
+                ConfigReader.getProperty(prefix + "disk.cache.dir", ""),
+                ConfigReader.getIntProperty(prefix + "disk.cache.size.mb", 0));
+    }
+
+    public boolean hasDiskCache() {
+        return !diskCacheDir.isEmpty();
+    }
+
+    /**
+     * Applies the profile to freshly created options. {@code cacheDir} is the session's leased
+     * disk cache directory, or {@code null} when no disk cache is used (e.g. remote sessions).
+     */
+    public void applyTo(MutableCapabilities options, Path cacheDir) {
+        ((AbstractDriverOptions<?>) options).setPageLoadStrategy(pageLoadStrategy);
+        if (options instanceof ChromiumOptions) {
+            ChromiumOptions<?> chromium = (ChromiumOptions<?>) options;
+            if (headless) {
+                chromium.addArguments("--headless=new");
+            }
+            if (windowSize != null) {
+                chromium.addArguments("--window-size=" + windowSize.getWidth() + "," + windowSize.getHeight());
+            }
+            if (disableExtensions) {
+                chromium.addArguments("--disable-extensions");
+            }
+            if (disableGpu) {
+                chromium.addArguments("--disable-gpu");
+            }
+            if (cacheDir != null) {
+                chromium.addArguments("--disk-cache-dir=" + cacheDir.toAbsolutePath());
+                if (diskCacheSizeMb > 0) {
+                    chromium.addArguments("--disk-cache-size=" + (long) diskCacheSizeMb * 1024 * 1024);
+                }
+            }
+        } else if (options instanceof FirefoxOptions) {
+            FirefoxOptions firefox = (FirefoxOptions) options;
+            if (headless) {
+                firefox.addArguments("-headless");
+            }
+            if (windowSize != null) {
+                firefox.addArguments("-width", String.valueOf(windowSize.getWidth()), "-height", String.valueOf(windowSize.getHeight()));
+            }
+            if (disableExtensions) {
+                firefox.addPreference("extensions.enabledScopes", 0);
+            }
+            if (disableGpu) {
+                firefox.addPreference("layers.acceleration.disabled", true);
+            }
+            if (cacheDir != null) {
+                firefox.addPreference("browser.cache.disk.parent_directory", cacheDir.toAbsolutePath().toString());
+                if (diskCacheSizeMb > 0) {
+                    firefox.addPreference("browser.cache.disk.smart_size.enabled", false);
+                    firefox.addPreference("browser.cache.disk.capacity", diskCacheSizeMb * 1024);
+                }
+            }
+        }
+        logger.debug("Launch profile '{}' applied: headless={}, window={}, pageLoad={}, cache={}", name, headless,
+                windowSize == null ? "maximized" : windowSize.getWidth() + "x" + windowSize.getHeight(), pageLoadStrategy, cacheDir);
+    }
+
+    /**
+     * Sizes the window of a new session: the profile's fixed size, or maximized when none is set.
+     */
+    public void sizeWindow(WebDriver driver) {
+        if (windowSize != null) {
+            driver.manage().window().setSize(windowSize);
+            logger.debug("Browser window sized to {}x{}.", windowSize.getWidth(), windowSize.getHeight());
+        } else {
+            driver.manage().window().maximize();
+            logger.debug("Browser window maximized.");
+        }
+    }
+
+    /**
+     * Takes a disk cache directory that no live browser of this type is using, creating a new
+     * slot when all existing ones are taken.
+     */
+    public Path leaseDiskCache(BrowserType browserType) {
+        Path slot = freeCacheSlots.computeIfAbsent(browserType, type -> new ConcurrentLinkedQueue<>()).poll();
+        if (slot == null) {
+            int index = cacheSlotCounters.computeIfAbsent(browserType, type -> new AtomicInteger()).getAndIncrement();
+            slot = Paths.get(diskCacheDir, browserType.name().toLowerCase() + "-" + index);
+        }
+        try {
+            Files.createDirectories(slot);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create browser disk cache directory: " + slot, e);
+        }
+        return slot;
+    }
+
+    public static void releaseDiskCache(BrowserType browserType, Path slot) {
+        freeCacheSlots.computeIfAbsent(browserType, type -> new ConcurrentLinkedQueue<>()).offer(slot);
+    }
+
+    private static PageLoadStrategy parsePageLoadStrategy(String key) {
+        String value = ConfigReader.getProperty(key, "NORMAL");
+        try {
+            return PageLoadStrategy.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Property '" + key + "' must be NORMAL, EAGER or NONE, but found: '" + value + "'.", e);
+        }
+    }
+
+    private static Dimension parseWindowSize(String key) {
+        String value = ConfigReader.getProperty(key, "");
+        if (value.isEmpty()) {
+            return null;
+        }
+        String[] parts = value.toLowerCase().split("x");
+        try {
+            if (parts.length == 2) {
+                return new Dimension(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Property '" + key + "' must be <width>x<height> (e.g. 1920x1080), but found: '" + value + "'.");
+    }
+}
@@ -0,0 +1,86 @@
+package com.insider.driver;
+
+import com.insider.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Named network profile applied to each new browser session through Chrome DevTools:
+ * URL blocking (custom patterns, images, fonts) and optional connection throttling.
+ * Profiles are declared as {@code network.profile.<name>.*} and selected with {@code network.profile}.
+ */
+public record NetworkProfile(String name,
+                             List<String> blockedPatterns,
+                             int latencyMillis,
+                             int downloadKbps,
+                             int uploadKbps) {
+
+    private static final Logger logger = LoggerFactory.getLogger(NetworkProfile.class);
+    private static final List<String> IMAGE_PATTERNS = List.of("*.png*", "*.jpg*", "*.jpeg*", "*.gif*", "*.webp*", "*.svg*", "*.ico*");
+    private static final List<String> FONT_PATTERNS = List.of("*.woff*", "*.woff2*", "*.ttf*", "*.otf*", "*.eot*");
+
+    public static NetworkProfile active() {
+        String name = ConfigReader.getProperty("network.profile", "none");
+        String prefix = "network.profile." + name + ".";
+        List<String> patterns = new ArrayList<>(Arrays.stream(ConfigReader.getProperty(prefix + "block.patterns", "").split(","))
+                .map(String::trim)
+                .filter(pattern -> !pattern.isEmpty())
+                .collect(Collectors.toList()));
+        if (ConfigReader.getBooleanProperty(prefix + "block.images", false)) {
+            patterns.addAll(IMAGE_PATTERNS);
+        }
+        if (ConfigReader.getBooleanProperty(prefix + "block.fonts", false)) {
+            patterns.addAll(FONT_PATTERNS);
+        }
+        return new NetworkProfile(name, patterns,
+                ConfigReader.getIntProperty(prefix + "latency.millis", 0),
+                ConfigReader.getIntProperty(prefix + "download.kbps", 0),
+                ConfigReader.getIntProperty(prefix + "upload.kbps", 0));
+    }
+
+    public boolean isThrottled() {
+        return latencyMillis > 0 || downloadKbps > 0 || uploadKbps > 0;
+    }
+
+    public boolean isActive() {
+        return !blockedPatterns.isEmpty() || isThrottled();
+    }
+
+    public void applyTo(WebDriver driver) {
+        if (!isActive()) {
+            return;
+        }
+        if (!(driver instanceof HasCdp)) {
+            logger.warn("Network profile '{}' requires a Chromium-based browser (DevTools). It is ignored for {}.",
+                    name, driver.getClass().getSimpleName());
+            return;
+        }
+        HasCdp cdp = (HasCdp) driver;
+        try {
+            cdp.executeCdpCommand("Network.enable", Map.of());
+            if (!blockedPatterns.isEmpty()) {
+                cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", blockedPatterns));
+            }
+            if (isThrottled()) {
+                cdp.executeCdpCommand("Network.emulateNetworkConditions", Map.of(
+                        "offline", false,
+                        "latency", latencyMillis,
+                        "downloadThroughput", downloadKbps > 0 ? downloadKbps * 1024 / 8 : -1,
+                        "uploadThroughput", uploadKbps > 0 ? uploadKbps * 1024 / 8 : -1));
+            }
+            logger.info("Network profile '{}' applied: {} blocked pattern(s), latency={} ms, down={} kbps, up={} kbps.",
+                    name, blockedPatterns.size(), latencyMillis, downloadKbps, uploadKbps);
+        } catch (WebDriverException e) {
+            logger.warn("Failed to apply network profile '{}'. Error: {}", name, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.insider.driver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insider.enums.BrowserType;
+import com.insider.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tracks the driver and browser processes of every local session by PID, samples their resident
+ * memory from {@code /proc/<pid>/status} and flags sessions that exceed {@code watchdog.max.rss.mb}
+ * or {@code watchdog.max.age.minutes}. Flagged sessions are recycled by {@link DriverManager} at the
+ * next test boundary. Processes left behind by a quit, a failed start or an aborted test are killed,
+ * and the peak memory of every session is written to {@code watchdog.report.dir} at suite end.
+ */
+public class SessionWatchdog {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionWatchdog.class);
+    private static final boolean ENABLED = ConfigReader.getBooleanProperty("watchdog.enabled", true);
+    private static final long MAX_RSS_KB = ConfigReader.getIntProperty("watchdog.max.rss.mb", 0) * 1024L;
+    private static final long MAX_AGE_MILLIS = TimeUnit.MINUTES.toMillis(ConfigReader.getIntProperty("watchdog.max.age.minutes", 0));
+    private static final int SAMPLE_INTERVAL_SECONDS = Math.max(1, ConfigReader.getIntProperty("watchdog.sample.interval.seconds", 5));
+    private static final String REPORT_DIR = ConfigReader.getProperty("watchdog.report.dir", "target/memory-watchdog");
+    private static final List<String> BROWSER_PROCESS_NAMES =
+            List.of("chromedriver", "geckodriver", "msedgedriver", "chrome", "chromium", "firefox", "msedge");
+
+    private static final Map<WebDriver, TrackedSession> sessions = new ConcurrentHashMap<>();
+    private static final List<Map<String, Object>> finishedSessions = new CopyOnWriteArrayList<>();
+    private static final AtomicInteger sessionIds = new AtomicInteger();
+    private static volatile ScheduledExecutorService sampler;
+    private static volatile boolean procUnavailableLogged;
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Starts tracking a new session. The driver service is found among this JVM's child processes
+     * by the port it listens on; the browser processes are its descendants.
+     */
+    public static void track(WebDriver driver, BrowserType browserType) {
+        if (!ENABLED) {
+            return;
+        }
+        ProcessHandle driverProcess = findDriverProcess(driver).orElse(null);
+        TrackedSession session = new TrackedSession(sessionIds.incrementAndGet(), browserType, driverProcess, System.currentTimeMillis());
+        sessions.put(driver, session);
+        startSampler();
+        logger.debug("Watching {} session #{} (driver PID {}).", browserType, session.id,
+                driverProcess == null ? "unknown" : driverProcess.pid());
+    }
+
+    /**
+     * Why the session should be replaced before the next test, or empty while it is within limits.
+     */
+    public static Optional<String> recycleReason(WebDriver driver) {
+        TrackedSession session = sessions.get(driver);
+        if (session == null) {
+            return Optional.empty();
+        }
+        sample(session);
+        long ageMillis = System.currentTimeMillis() - session.startedMillis;
+        if (MAX_AGE_MILLIS > 0 && ageMillis >= MAX_AGE_MILLIS) {
+            session.recycleReason = "age " + TimeUnit.MILLISECONDS.toMinutes(ageMillis) + " min >= " + TimeUnit.MILLISECONDS.toMinutes(MAX_AGE_MILLIS) + " min";
+        }
+        return Optional.ofNullable(session.recycleReason);
+    }
+
+    /**
+     * Quits a session and kills whatever survives of its process tree. The tree is captured before
+     * the quit, while the browser processes are still descendants of the driver service.
+     */
+    public static void terminate(WebDriver driver, Runnable quit) {
+        TrackedSession session = sessions.remove(driver);
+        if (session == null) {
+            quit.run();
+            return;
+        }
+        sample(session);
+        List<ProcessHandle> processes = session.processTree().collect(Collectors.toList());
+        try {
+            quit.run();
+        } finally {
+            int killed = killSurvivors(processes);
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("session", session.id);
+            entry.put("browser", session.browserType.toString());
+            entry.put("driverPid", session.driverProcess == null ? null : session.driverProcess.pid());
+            entry.put("peakRssMb", session.peakRssKb / 1024);
+            entry.put("ageSeconds", (System.currentTimeMillis() - session.startedMillis) / 1000);
+            entry.put("recycleReason", session.recycleReason);
+            entry.put("killedProcesses", killed);
+            finishedSessions.add(entry);
+            logger.info("{} session #{} closed. Peak RSS: {} MB, age: {} s{}.", session.browserType, session.id,
+                    session.peakRssKb / 1024, entry.get("ageSeconds"), killed > 0 ? ", killed " + killed + " leftover process(es)" : "");
+        }
+    }
+
+    /**
+     * Kills the process trees of sessions that were never quit and any driver or browser process
+     * still running under this JVM, then writes the peak memory report. Safe to call repeatedly.
+     */
+    public static synchronized void shutdown() {
+        if (!ENABLED) {
+            return;
+        }
+        if (sampler != null) {
+            sampler.shutdownNow();
+            sampler = null;
+        }
+        int killed = 0;
+        for (TrackedSession session : new ArrayList<>(sessions.values())) {
+            logger.warn("{} session #{} was never quit. Killing its processes.", session.browserType, session.id);
+            killed += killSurvivors(session.processTree().collect(Collectors.toList()));
+        }
+        sessions.clear();
+        killed += killSurvivors(ProcessHandle.current().descendants()
+                .filter(SessionWatchdog::isBrowserProcess)
+                .collect(Collectors.toList()));
+        if (killed > 0) {
+            logger.warn("Killed {} orphaned browser/driver process(es) at shutdown.", killed);
+        }
+        if (!finishedSessions.isEmpty()) {
+            writeReport();
+        }
+    }
+
+    private static void writeReport() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("maxRssMb", MAX_RSS_KB / 1024);
+        report.put("maxAgeMinutes", TimeUnit.MILLISECONDS.toMinutes(MAX_AGE_MILLIS));
+        report.put("peakRssMb", finishedSessions.stream().mapToLong(entry -> (Long) entry.get("peakRssMb")).max().orElse(0));
+        report.put("recycledSessions", finishedSessions.stream().filter(entry -> entry.get("recycleReason") != null).count());
+        report.put("sessions", new ArrayList<>(finishedSessions));
+        Path reportFile = Paths.get(REPORT_DIR, "sessions.json");
+        try {
+            Files.createDirectories(reportFile.getParent());
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+            logger.info("Browser memory report written to: {}", reportFile.toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to write browser memory report to {}. Error: {}", reportFile, e.getMessage(), e);
+        }
+    }
+
+    private static synchronized void startSampler() {
+        if (sampler != null) {
+            return;
+        }
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleWithFixedDelay(() -> sessions.values().forEach(SessionWatchdog::sample),
+                SAMPLE_INTERVAL_SECONDS, SAMPLE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static void sample(TrackedSession session) {
+        long rssKb = session.processTree().mapToLong(SessionWatchdog::readRssKb).sum();
+        session.peakRssKb = Math.max(session.peakRssKb, rssKb);
+        if (MAX_RSS_KB > 0 && rssKb >= MAX_RSS_KB && session.recycleReason == null) {
+            session.recycleReason = "RSS " + rssKb / 1024 + " MB >= " + MAX_RSS_KB / 1024 + " MB";
+            logger.warn("{} session #{} uses {} MB. It will be recycled at the next test boundary.",
+                    session.browserType, session.id, rssKb / 1024);
+        }
+    }
+
+    private static long readRssKb(ProcessHandle process) {
+        Path status = Paths.get("/proc", String.valueOf(process.pid()), "status");
+        try (Stream<String> lines = Files.lines(status)) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .findFirst()
+                    .map(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                    .orElse(0L);
+        } catch (IOException | RuntimeException e) {
+            if (!Files.isDirectory(Paths.get("/proc")) && !procUnavailableLogged) {
+                procUnavailableLogged = true;
+                logger.info("/proc is not available on this OS. Browser memory limits are not enforced; age limits still apply.");
+            }
+            return 0;
+        }
+    }
+
+    private static Optional<ProcessHandle> findDriverProcess(WebDriver driver) {
+        if (!(driver instanceof RemoteWebDriver)) {
+            return Optional.empty();
+        }
+        CommandExecutor executor = ((RemoteWebDriver) driver).getCommandExecutor();
+        if (!(executor instanceof HttpCommandExecutor)) {
+            return Optional.empty();
+        }
+        int port = ((HttpCommandExecutor) executor).getAddressOfRemoteServer().getPort();
+        return ProcessHandle.current().children()
+                .filter(child -> child.info().arguments()
+                        .map(arguments -> String.join(" ", arguments))
+                        .map(arguments -> arguments.contains("--port=" + port) || arguments.contains("--port " + port))
+                        .orElse(false))
+                .findFirst();
+    }
+
+    private static boolean isBrowserProcess(ProcessHandle process) {
+        String command = process.info().command().orElse("").toLowerCase();
+        return BROWSER_PROCESS_NAMES.stream().anyMatch(command::contains);
+    }
+
+    private static int killSurvivors(List<ProcessHandle> processes) {
+        int killed = 0;
+        for (ProcessHandle process : processes) {
+            if (process.isAlive() && process.destroyForcibly()) {
+                killed++;
+            }
+        }
+        return killed;
+    }
+
+    private static class TrackedSession {
+
+        private final int id;
+        private final BrowserType browserType;
+        private final ProcessHandle driverProcess;
+        private final long startedMillis;
+        private volatile long peakRssKb;
+        private volatile String recycleReason;
+
+        TrackedSession(int id, BrowserType browserType, ProcessHandle driverProcess, long startedMillis) {
+            this.id = id;
+            this.browserType = browserType;
+            this.driverProcess = driverProcess;
+            this.startedMillis = startedMillis;
+        }
+
+        Stream<ProcessHandle> processTree() {
+            return driverProcess == null ? Stream.empty() : Stream.concat(Stream.of(driverProcess), driverProcess.descendants());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.insider.enums;
+
+public enum ElementState {
+    VISIBLE,
+    PRESENT,
+    MISSING;
+}
@@ -0,0 +1,6 @@
+package com.insider.enums;
+
+public enum EntryMode {
+    UI,
+    DEEP_LINK;
+}
@@ -0,0 +1,63 @@
+package com.insider.enums;
+
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnhandledAlertException;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Why a test failed, derived from the exception and its cause chain. Transient categories are
+ * caused by timing or page state and are worth retrying; the others fail the same way every time.
+ */
+public enum FailureCategory {
+    STALE_ELEMENT(true),
+    TIMEOUT(true),
+    CLICK_INTERCEPTED(true),
+    NAVIGATION(true),
+    ASSERTION(false),
+    OTHER(false);
+
+    private final boolean transientFailure;
+
+    FailureCategory(boolean transientFailure) {
+        this.transientFailure = transientFailure;
+    }
+
+    public boolean isTransient() {
+        return transientFailure;
+    }
+
+    /**
+     * Walks the cause chain from the outermost exception; the first recognised exception decides.
+     * Wrappers such as the {@code RuntimeException} thrown by {@code WaitUtils} after repeated stale
+     * elements are classified by their cause.
+     */
+    public static FailureCategory classify(Throwable failure) {
+        for (Throwable current = failure; current != null; current = current.getCause() == current ? null : current.getCause()) {
+            if (current instanceof AssertionError) {
+                return ASSERTION;
+            }
+            if (current instanceof StaleElementReferenceException) {
+                return STALE_ELEMENT;
+            }
+            if (current instanceof ElementNotInteractableException) {
+                return CLICK_INTERCEPTED;
+            }
+            if (current instanceof TimeoutException) {
+                return TIMEOUT;
+            }
+            if (current instanceof NoSuchWindowException || current instanceof UnhandledAlertException || isNetworkError(current)) {
+                return NAVIGATION;
+            }
+        }
+        return OTHER;
+    }
+
+    private static boolean isNetworkError(Throwable failure) {
+        String message = failure.getMessage();
+        return failure instanceof WebDriverException && message != null
+                && (message.contains("net::ERR_") || message.contains("about:neterror"));
+    }
+}
@@ -0,0 +1,6 @@
+package com.insider.enums;
+
+public enum FilterMode {
+    UI,
+    FAST;
+}
@@ -0,0 +1,6 @@
+package com.insider.enums;
+
+public enum LinkVerificationMode {
+    BROWSER,
+    HTTP;
+}
@@ -0,0 +1,87 @@
+package com.insider.listeners;
+
+import com.insider.scheduling.DurationHistory;
+import com.insider.scheduling.LptScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * With {@code schedule.enabled=true}, records how long every test invocation took, saves the
+ * durations when the suite ends and starts the test methods of the next run longest first. Data
+ * provider rows are ordered by the data provider itself (see {@code QAJobsDataProvider}). The
+ * duration of an invocation includes its retried attempts, which occupy a thread just the same.
+ */
+public class DurationSchedulingListener implements IMethodInterceptor, ITestListener, ISuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(DurationSchedulingListener.class);
+
+    private final Map<String, Long> retriedMillis = new ConcurrentHashMap<>();
+
+    public static String testName(ITestNGMethod method) {
+        return method.getRealClass().getSimpleName() + "." + method.getMethodName();
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!DurationHistory.isEnabled() || methods.size() < 2) {
+            return methods;
+        }
+        List<IMethodInstance> ordered = LptScheduler.longestFirst(methods,
+                instance -> DurationHistory.estimateMethod(testName(instance.getMethod())));
+        logger.info("Scheduled {} test method(s) longest first for '{}'.", ordered.size(), context.getName());
+        return ordered;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        recordDuration(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        recordDuration(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        if (result.wasRetried()) {
+            if (DurationHistory.isEnabled()) {
+                retriedMillis.merge(LoggingContextListener.testId(result), durationMillis(result), Long::sum);
+            }
+        } else if (durationMillis(result) > 0) {
+            // Skips caused by a failed configuration method never ran and say nothing about duration
+            recordDuration(result);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (DurationHistory.isEnabled()) {
+            DurationHistory.save();
+        }
+    }
+
+    private void recordDuration(ITestResult result) {
+        if (DurationHistory.isEnabled()) {
+            Long retried = retriedMillis.remove(LoggingContextListener.testId(result));
+            DurationHistory.record(testName(result.getMethod()), result.getParameters(),
+                    durationMillis(result) + (retried == null ? 0 : retried));
+        }
+    }
+
+    private static long durationMillis(ITestResult result) {
+        return result.getEndMillis() - result.getStartMillis();
+    }
+}
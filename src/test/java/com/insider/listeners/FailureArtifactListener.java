@@ -0,0 +1,35 @@
+package com.insider.listeners;
+
+import com.insider.artifacts.FailureArtifacts;
+import com.insider.driver.DriverManager;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+/**
+ * Captures failure artifacts right after a failed test method returns, while its browser is still
+ * on the failing page and before {@code @AfterMethod} releases the session. Writing happens in
+ * the background; the suite waits for pending artifacts when it finishes.
+ */
+public class FailureArtifactListener implements IInvokedMethodListener, ISuiteListener {
+
+    private static final long FLUSH_TIMEOUT_MILLIS = 30_000;
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!FailureArtifacts.isEnabled() || !method.isTestMethod() || testResult.getStatus() != ITestResult.FAILURE) {
+            return;
+        }
+        DriverManager.getActiveDriver().ifPresent(driver -> FailureArtifacts.submit(
+                FailureArtifacts.capture(driver, LoggingContextListener.testId(testResult), testResult.getThrowable())));
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (FailureArtifacts.isEnabled()) {
+            FailureArtifacts.awaitPending(FLUSH_TIMEOUT_MILLIS);
+        }
+    }
+}
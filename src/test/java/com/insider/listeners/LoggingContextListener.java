@@ -0,0 +1,37 @@
+package com.insider.listeners;
+
+import org.slf4j.MDC;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Tags every log line written while a test or configuration method runs with its {@code testId}
+ * (class, method and data row), so interleaved output of parallel threads can be told apart.
+ */
+public class LoggingContextListener implements IInvokedMethodListener {
+
+    public static final String TEST_ID = "testId";
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        MDC.put(TEST_ID, testId(testResult));
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        MDC.remove(TEST_ID);
+    }
+
+    public static String testId(ITestResult testResult) {
+        String id = testResult.getTestClass().getRealClass().getSimpleName() + "." + testResult.getMethod().getMethodName();
+        Object[] parameters = testResult.getParameters();
+        if (!testResult.getMethod().isTest() || parameters == null || parameters.length == 0) {
+            return id;
+        }
+        return id + Arrays.stream(parameters).map(String::valueOf).collect(Collectors.joining("|", "[", "]"));
+    }
+}
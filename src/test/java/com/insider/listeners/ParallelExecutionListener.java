@@ -0,0 +1,43 @@
+package com.insider.listeners;
+
+import com.insider.utils.ExecutionSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.IDataProviderAnnotation;
+import org.testng.xml.XmlSuite;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Applies the parallel settings from config.properties (or -D system properties) to the suite,
+ * so testng.xml does not need to hard-code thread counts.
+ */
+public class ParallelExecutionListener implements IAlterSuiteListener, IAnnotationTransformer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelExecutionListener.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!ExecutionSettings.isParallelEnabled()) {
+            logger.info("Parallel execution disabled. Tests and data provider rows run sequentially.");
+            return;
+        }
+        int threadCount = ExecutionSettings.getThreadCount();
+        int dataProviderThreadCount = ExecutionSettings.getDataProviderThreadCount();
+        for (XmlSuite suite : suites) {
+            suite.setParallel(XmlSuite.ParallelMode.METHODS);
+            suite.setThreadCount(threadCount);
+            suite.setDataProviderThreadCount(dataProviderThreadCount);
+            logger.info("Suite '{}' configured for parallel methods with {} thread(s) and {} data provider thread(s).",
+                    suite.getName(), threadCount, dataProviderThreadCount);
+        }
+    }
+
+    @Override
+    public void transform(IDataProviderAnnotation annotation, Method method) {
+        annotation.setParallel(ExecutionSettings.isParallelEnabled());
+    }
+}
@@ -0,0 +1,29 @@
+package com.insider.listeners;
+
+import com.insider.replay.ReplayManager;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+/**
+ * Starts traffic record/replay for the suite and, in RECORD mode, persists the archive only when
+ * every test passed so a broken run never overwrites a good recording. Attempts skipped because
+ * they were retried do not count; the outcome of the retry does.
+ */
+public class ReplayListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        ReplayManager.start();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        boolean passed = suite.getResults().values().stream()
+                .map(result -> result.getTestContext())
+                .allMatch(context -> context.getFailedTests().size() == 0
+                        && context.getFailedConfigurations().size() == 0
+                        && context.getSkippedTests().getAllResults().stream().allMatch(ITestResult::wasRetried));
+        ReplayManager.finish(passed);
+    }
+}
@@ -0,0 +1,63 @@
+package com.insider.listeners;
+
+import com.insider.metrics.StepMetrics;
+import com.insider.retry.FlakeTracker;
+import com.insider.retry.TransientFailureRetryAnalyzer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IRetryAnalyzer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+/**
+ * Installs {@link TransientFailureRetryAnalyzer} on every test method that has no retry analyzer of
+ * its own, records final outcomes and writes the flake report and rerun file when the suite ends.
+ * The analyzer is set on the suite's methods rather than through an annotation transformer, because
+ * TestNG keeps a single transformer and {@link ParallelExecutionListener} already is one.
+ */
+public class RetryListener implements ISuiteListener, ITestListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryListener.class);
+
+    private long suiteStartMillis;
+
+    @Override
+    public void onStart(ISuite suite) {
+        suiteStartMillis = System.currentTimeMillis();
+        if (!FlakeTracker.isEnabled()) {
+            return;
+        }
+        int installed = 0;
+        for (ITestNGMethod method : suite.getAllMethods()) {
+            Class<? extends IRetryAnalyzer> current = method.getRetryAnalyzerClass();
+            if (current == null || current.getSimpleName().equals("DisabledRetryAnalyzer")) {
+                method.setRetryAnalyzerClass(TransientFailureRetryAnalyzer.class);
+                installed++;
+            }
+        }
+        logger.info("Transient failure retry enabled for {} test method(s).", installed);
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        StepMetrics.clearLastStep();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        FlakeTracker.recordOutcome(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        FlakeTracker.recordOutcome(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        FlakeTracker.writeReports(suite.getName(), System.currentTimeMillis() - suiteStartMillis);
+    }
+}
@@ -0,0 +1,70 @@
+package com.insider.listeners;
+
+import com.insider.metrics.StepMetrics;
+import com.insider.metrics.StepMetricsReporter;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tracks how much of each test is spent in explicit waits and writes the step metrics report
+ * when the suite finishes.
+ */
+public class StepMetricsListener implements ISuiteListener, ITestListener {
+
+    private final List<Map<String, Object>> testTimings = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        StepMetrics.drainTestWaitNanos();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        recordTest(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        recordTest(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        recordTest(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (StepMetrics.isEnabled()) {
+            StepMetricsReporter.writeReport(suite.getName(), testTimings);
+        }
+    }
+
+    private void recordTest(ITestResult result) {
+        long durationMillis = result.getEndMillis() - result.getStartMillis();
+        long waitMillis = StepMetrics.drainTestWaitNanos() / 1_000_000;
+        Map<String, Object> timing = new LinkedHashMap<>();
+        timing.put("test", result.getMethod().getQualifiedName());
+        timing.put("parameters", Arrays.toString(result.getParameters()));
+        timing.put("status", status(result));
+        timing.put("durationMillis", durationMillis);
+        timing.put("waitMillis", waitMillis);
+        timing.put("waitShare", durationMillis > 0 ? Math.round(1000.0 * waitMillis / durationMillis) / 1000.0 : 0);
+        testTimings.add(timing);
+    }
+
+    private static String status(ITestResult result) {
+        if (result.wasRetried()) {
+            return "RETRIED";
+        }
+        return result.getStatus() == ITestResult.SUCCESS ? "PASSED" : result.getStatus() == ITestResult.FAILURE ? "FAILED" : "SKIPPED";
+    }
+}
@@ -0,0 +1,31 @@
+package com.insider.listeners;
+
+import com.insider.utils.ConfigReader;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.util.Map;
+
+/**
+ * Lets a suite file select configuration (e.g. {@code network.profile}) with
+ * {@code <parameter name="..." value="..."/>} instead of editing config.properties. The parameters
+ * apply while their own suite runs and are removed when it finishes, so one suite's settings never
+ * leak into another. Parallel settings are read when the suites are parsed, before any suite
+ * starts, and therefore come from config.properties or -D system properties only.
+ */
+public class SuiteConfigurationListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        suiteParameters(suite).forEach(ConfigReader::setOverride);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        suiteParameters(suite).keySet().forEach(ConfigReader::clearOverride);
+    }
+
+    private static Map<String, String> suiteParameters(ISuite suite) {
+        return suite.getXmlSuite().getParameters();
+    }
+}
@@ -0,0 +1,71 @@
+package com.insider.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power-of-two millisecond buckets. Percentiles are reported as
+ * the upper bound of the bucket that contains them.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 24;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long durationNanos) {
+        long millis = durationNanos / 1_000_000;
+        int bucket = millis <= 0 ? 0 : Math.min(64 - Long.numberOfLeadingZeros(millis), BUCKETS - 1);
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        totalNanos.add(durationNanos);
+        maxNanos.accumulateAndGet(durationNanos, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public Map<String, Object> toMap() {
+        long samples = getCount();
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("count", samples);
+        map.put("totalMillis", toMillis(getTotalNanos()));
+        map.put("meanMillis", samples == 0 ? 0 : toMillis(getTotalNanos() / samples));
+        map.put("maxMillis", toMillis(maxNanos.get()));
+        map.put("p50Millis", percentileMillis(0.50));
+        map.put("p90Millis", percentileMillis(0.90));
+        map.put("p99Millis", percentileMillis(0.99));
+        return map;
+    }
+
+    private long percentileMillis(double percentile) {
+        long samples = getCount();
+        if (samples == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile * samples);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(i == 0 ? 1 : 1L << i, toMillis(maxNanos.get()));
+            }
+        }
+        return toMillis(maxNanos.get());
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+}
@@ -0,0 +1,155 @@
+package com.insider.metrics;
+
+import com.insider.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory timing registry for framework steps (clicks, hovers, waits, driver acquisition).
+ * Recording is a few atomic updates, so it stays on in normal runs; {@link StepMetricsReporter}
+ * writes the collected data at the end of the suite.
+ */
+public class StepMetrics {
+
+    public static final String WAIT_STEP_PREFIX = "wait.";
+
+    private static final boolean ENABLED = ConfigReader.getBooleanProperty("metrics.enabled", true);
+    private static final int TOP_N = ConfigReader.getIntProperty("metrics.top.n", 10);
+    private static final Logger stepEvents = LoggerFactory.getLogger("com.insider.steps");
+
+    private static final ConcurrentMap<String, LatencyHistogram> byStepType = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LatencyHistogram> byLocator = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LongAdder> staleRetries = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, LongAdder> jsClickFallbacks = new ConcurrentHashMap<>();
+    private static final PriorityQueue<StepSample> slowestSteps = new PriorityQueue<>(Comparator.comparingLong(StepSample::durationNanos));
+    private static final ThreadLocal<long[]> testWaitNanos = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ThreadLocal<String> lastStep = new ThreadLocal<>();
+
+    public record StepSample(String stepType, String locator, long durationNanos, String thread) {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Records a finished step. Besides the in-memory histograms, each step is emitted as a structured
+     * event on the {@code com.insider.steps} logger (step, target, duration; test id and thread come
+     * from the log context), which logback writes asynchronously to the per-run step event file.
+     */
+    public static void record(String stepType, Object locator, long startNanos) {
+        boolean eventsEnabled = stepEvents.isInfoEnabled();
+        if (!ENABLED && !eventsEnabled) {
+            return;
+        }
+        long duration = System.nanoTime() - startNanos;
+        String locatorKey = String.valueOf(locator);
+        lastStep.set(stepType + " " + locatorKey);
+        if (eventsEnabled) {
+            stepEvents.atInfo()
+                    .addKeyValue("step", stepType)
+                    .addKeyValue("target", locatorKey)
+                    .addKeyValue("micros", duration / 1000)
+                    .log();
+        }
+        if (!ENABLED) {
+            return;
+        }
+        byStepType.computeIfAbsent(stepType, key -> new LatencyHistogram()).record(duration);
+        byLocator.computeIfAbsent(stepType + " " + locatorKey, key -> new LatencyHistogram()).record(duration);
+        if (stepType.startsWith(WAIT_STEP_PREFIX)) {
+            testWaitNanos.get()[0] += duration;
+        }
+        synchronized (slowestSteps) {
+            if (slowestSteps.size() < TOP_N) {
+                slowestSteps.add(new StepSample(stepType, locatorKey, duration, Thread.currentThread().getName()));
+            } else if (!slowestSteps.isEmpty() && slowestSteps.peek().durationNanos() < duration) {
+                slowestSteps.poll();
+                slowestSteps.add(new StepSample(stepType, locatorKey, duration, Thread.currentThread().getName()));
+            }
+        }
+    }
+
+    public static void recordStaleRetry(Object target) {
+        if (ENABLED) {
+            staleRetries.computeIfAbsent(String.valueOf(target), key -> new LongAdder()).increment();
+        }
+    }
+
+    public static void recordJsClickFallback(Object locator) {
+        if (ENABLED) {
+            jsClickFallbacks.computeIfAbsent(String.valueOf(locator), key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * The step (type and target) most recently finished on this thread, which is the failing step
+     * when a test has just failed. Null if no step was recorded since {@link #clearLastStep()}.
+     */
+    public static String getLastStep() {
+        return lastStep.get();
+    }
+
+    public static void clearLastStep() {
+        lastStep.remove();
+    }
+
+    /**
+     * Number of recorded executions of a step as returned by {@link #getLastStep()}.
+     */
+    public static long getStepCount(String step) {
+        LatencyHistogram histogram = byLocator.get(step);
+        return histogram == null ? 0 : histogram.getCount();
+    }
+
+    /**
+     * Returns the wait time accumulated by the current thread since the last call and resets it.
+     */
+    public static long drainTestWaitNanos() {
+        long[] waited = testWaitNanos.get();
+        long value = waited[0];
+        testWaitNanos.remove();
+        return value;
+    }
+
+    static Map<String, LatencyHistogram> getStepTypeHistograms() {
+        return new LinkedHashMap<>(byStepType);
+    }
+
+    static Map<String, LatencyHistogram> getLocatorHistograms() {
+        return new LinkedHashMap<>(byLocator);
+    }
+
+    static Map<String, Long> getStaleRetries() {
+        return snapshot(staleRetries);
+    }
+
+    static Map<String, Long> getJsClickFallbacks() {
+        return snapshot(jsClickFallbacks);
+    }
+
+    static List<StepSample> getSlowestSteps() {
+        List<StepSample> samples;
+        synchronized (slowestSteps) {
+            samples = new ArrayList<>(slowestSteps);
+        }
+        samples.sort(Comparator.comparingLong(StepSample::durationNanos).reversed());
+        return samples;
+    }
+
+    private static Map<String, Long> snapshot(Map<String, LongAdder> counters) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        counters.forEach((key, counter) -> result.put(key, counter.sum()));
+        return result;
+    }
+}
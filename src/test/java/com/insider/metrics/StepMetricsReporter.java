@@ -0,0 +1,66 @@
+package com.insider.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insider.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class StepMetricsReporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(StepMetricsReporter.class);
+    private static final String REPORT_DIR = ConfigReader.getProperty("metrics.report.dir", "target/step-metrics");
+
+    public static void writeReport(String suiteName, List<Map<String, Object>> testTimings) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("suite", suiteName);
+        report.put("stepTypes", toMaps(StepMetrics.getStepTypeHistograms()));
+        report.put("locators", toMaps(StepMetrics.getLocatorHistograms()));
+        report.put("staleRetries", StepMetrics.getStaleRetries());
+        report.put("jsClickFallbacks", StepMetrics.getJsClickFallbacks());
+        report.put("tests", testTimings);
+
+        List<Map<String, Object>> slowest = new ArrayList<>();
+        for (StepMetrics.StepSample sample : StepMetrics.getSlowestSteps()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("stepType", sample.stepType());
+            entry.put("locator", sample.locator());
+            entry.put("durationMillis", sample.durationNanos() / 1_000_000);
+            entry.put("thread", sample.thread());
+            slowest.add(entry);
+        }
+        report.put("slowestSteps", slowest);
+
+        Path reportFile = Paths.get(REPORT_DIR, "step-metrics.json");
+        try {
+            Files.createDirectories(reportFile.getParent());
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+            logger.info("Step metrics report written to: {}", reportFile.toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to write step metrics report to {}. Error: {}", reportFile, e.getMessage(), e);
+        }
+
+        logger.info("Top {} slowest steps:", slowest.size());
+        for (int i = 0; i < slowest.size(); i++) {
+            Map<String, Object> entry = slowest.get(i);
+            logger.info("  #{} {} ms  {}  {}  [{}]", i + 1, entry.get("durationMillis"), entry.get("stepType"),
+                    entry.get("locator"), entry.get("thread"));
+        }
+    }
+
+    private static Map<String, Object> toMaps(Map<String, LatencyHistogram> histograms) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        histograms.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().getTotalNanos(), a.getValue().getTotalNanos()))
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue().toMap()));
+        return result;
+    }
+}
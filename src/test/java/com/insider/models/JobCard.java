@@ -0,0 +1,4 @@
+package com.insider.models;
+
+public record JobCard(String title, String department, String location, String viewRoleUrl) {
+}
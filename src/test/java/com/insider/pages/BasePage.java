@@ -1,5 +1,9 @@
 package com.insider.pages;
 
+import com.insider.metrics.StepMetrics;
+import com.insider.performance.PagePerformanceMonitor;
+import com.insider.utils.LocatorUtils;
+import com.insider.utils.LocatorWaitResult;
 import com.insider.utils.WaitUtils;
 import com.insider.driver.DriverManager;
 import org.openqa.selenium.*;
@@ -7,32 +11,36 @@ import org.openqa.selenium.interactions.Actions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.insider.utils.WaitUtils.waitForVisibility;
 
 public class BasePage {
 
-    protected WebDriver driver;
     protected final Logger logger = LoggerFactory.getLogger(this.getClass());
 
-    public BasePage() {
-        this.driver = DriverManager.getDriver();
-        logger.debug("BasePage initialized with WebDriver instance.");
+    protected WebDriver getDriver() {
+        return DriverManager.getDriver();
     }
 
     protected void clickElement(By locator) {
-        logger.info("STEP: Click element {}", locator);
+        logger.debug("STEP: Click element {}", locator);
+        long start = System.nanoTime();
         try {
             WebElement element = WaitUtils.waitForClickability(locator);
             element.click();
             logger.debug("Clicked element normally: {}", locator);
         } catch (ElementClickInterceptedException e) {
             logger.warn("Standard click intercepted for {}. Retrying with JavaScript.", locator);
+            StepMetrics.recordJsClickFallback(locator);
             try {
                 WebElement element = WaitUtils.waitForClickability(locator);
-                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+                ((JavascriptExecutor) getDriver()).executeScript("arguments[0].click();", element);
                 logger.debug("Clicked element with JavaScript: {}", locator);
             } catch (Exception jsClickException) {
                 logger.error("Both standard and JavaScript click failed for {}. Error: {}", locator, jsClickException.getMessage());
@@ -41,24 +49,32 @@ public class BasePage {
         } catch (Exception e) {
             logger.error("Click failed for {}. Error: {}", locator, e.getMessage());
             throw e;
+        } finally {
+            StepMetrics.record("click", locator, start);
         }
     }
 
     protected void hoverOverElement(By locator) {
-        logger.info("STEP: Hover over element {}", locator);
-        WebElement element = waitForVisibility(locator);
-        new Actions(driver).moveToElement(element).perform();
-        logger.debug("Hovered successfully: {}", locator);
+        logger.debug("STEP: Hover over element {}", locator);
+        long start = System.nanoTime();
+        try {
+            WebElement element = waitForVisibility(locator);
+            new Actions(getDriver()).moveToElement(element).perform();
+            logger.debug("Hovered successfully: {}", locator);
+        } finally {
+            StepMetrics.record("hover", locator, start);
+        }
     }
 
     protected void hoverAndClickElement(By hoverLocator, By clickLocator) {
-        logger.info("STEP: Hover {} then click {}", hoverLocator, clickLocator);
+        logger.debug("STEP: Hover {} then click {}", hoverLocator, clickLocator);
         hoverOverElement(hoverLocator);
         clickElement(clickLocator);
     }
 
     protected List<WebElement> getElements(By locator, String logName) {
-        logger.info("STEP: Get elements for {}", logName);
+        logger.debug("STEP: Get elements for {}", logName);
+        long start = System.nanoTime();
         try {
             List<WebElement> elements = WaitUtils.waitForVisibilityOfAllElements(locator);
             logger.debug("Found {} {} element(s)", elements.size(), logName);
@@ -66,45 +82,77 @@ public class BasePage {
         } catch (Exception e) {
             logger.warn("Failed to get elements {}. Error: {}", logName, e.getMessage());
             return List.of();
+        } finally {
+            StepMetrics.record("getElements", locator, start);
         }
     }
 
-    protected WebElement getElement(By locator, String logName) {
-        logger.info("STEP: Get single element for '{}'", logName);
-        try {
-            WebElement element = WaitUtils.waitForVisibility(locator);
-            logger.debug("Successfully found element for '{}' using locator: {}", logName, locator);
-            return element;
-        } catch (Exception e) {
-            logger.warn("Failed to get element for '{}'. Locator: {}. Error: {}", logName, locator, e.getMessage());
-            return null;
-        }
+    /**
+     * Reads every visible element matched by {@code itemLocator} as a record in a single script call.
+     * Each field selector is a CSS selector relative to the item; a {@code @attribute} suffix reads
+     * that attribute instead of the rendered text (e.g. {@code "a@href"}).
+     */
+    protected List<Map<String, String>> extractRecords(By itemLocator, Map<String, String> fieldSelectors) {
+        logger.debug("STEP: Extract records from elements {}", itemLocator);
+        String script = LocatorUtils.FIND_ALL_FUNCTION + LocatorUtils.IS_VISIBLE_FUNCTION + LocatorUtils.READ_RECORD_FUNCTION +
+                "var fields = arguments[1];" +
+                "return findAll(arguments[0]).filter(isVisible).map(function (item) { return readRecord(item, fields); });";
+        @SuppressWarnings("unchecked")
+        List<Map<String, String>> records = (List<Map<String, String>>) ((JavascriptExecutor) getDriver())
+                .executeScript(script, LocatorUtils.toScriptLocator(itemLocator), fieldSelectors);
+        List<Map<String, String>> result = records == null ? List.of() : new ArrayList<>(records);
+        logger.debug("Extracted {} record(s) from {}", result.size(), itemLocator);
+        return result;
     }
 
-    protected List<String> getTextsFromElements(By locator, String logName) {
-        logger.info("STEP: Get texts of {} from elements {}", logName, locator);
-        List<WebElement> elements = getElements(locator, logName);
+    /**
+     * Streams the records of a listing that may be longer than what is rendered at once. Records are
+     * read in batches while the stream is consumed; when the rendered items run out, the scanner
+     * scrolls to trigger lazy loading and, if {@code listing.scan.next.page.selector} is set, moves to
+     * the next page. Uses the same field selector syntax as {@link #extractRecords(By, Map)}.
+     */
+    protected Stream<Map<String, String>> streamRecords(By itemLocator, Map<String, String> fieldSelectors) {
+        logger.debug("STEP: Stream records from elements {}", itemLocator);
+        return StreamSupport.stream(new ListingScanner(getDriver(), itemLocator, fieldSelectors), false);
+    }
 
-        List<String> texts = elements.stream()
-                .filter(WebElement::isDisplayed)
-                .map(WebElement::getText)
-                .collect(Collectors.toList());
 
-        logger.debug("Collected {} text(s) for '{}': {}", texts.size(), logName, texts);
-        return texts;
+    protected Map<String, LocatorWaitResult> getElementsDisplayStatus(Map<String, By> locators) {
+        logger.debug("STEP: Check display status of {}", locators.keySet());
+        Map<String, LocatorWaitResult> results = WaitUtils.waitForAllVisible(locators);
+        if (logger.isDebugEnabled()) {
+            results.values().forEach(result -> logger.debug("'{}' is {} after {} ms", result.name(), result.state(), result.elapsedMillis()));
+        }
+        return results;
     }
 
-    protected List<String> getTextsAfterHover(By hoverLocator, By targetLocator, String logName) {
-        hoverOverElement(hoverLocator);
-        return getTextsFromElements(targetLocator, logName);
+    protected boolean isOptionalElementDisplayed(By locator, String logName) {
+        logger.debug("STEP: Check if optional '{}' is displayed", logName);
+        boolean isDisplayed = WaitUtils.waitForOptionalElement(locator, false).isPresent();
+        logger.debug("Optional '{}' display status: {}", logName, isDisplayed);
+        return isDisplayed;
     }
 
-
-    protected boolean isElementDisplayed(By locator, String logName) {
-        logger.info("STEP: Check if '{}' is displayed", logName);
-        boolean isDisplayed = getElement(locator, logName) != null;
-        logger.debug("'{}' display status: {}", logName, isDisplayed);
-        return isDisplayed;
+    protected boolean clickOptionalElement(By locator, String logName) {
+        logger.debug("STEP: Click optional '{}' if available", logName);
+        Optional<WebElement> element = WaitUtils.waitForOptionalElement(locator, true);
+        if (element.isEmpty()) {
+            logger.debug("Optional '{}' not available. Skipping click.", logName);
+            return false;
+        }
+        try {
+            element.get().click();
+        } catch (ElementClickInterceptedException | StaleElementReferenceException e) {
+            logger.warn("Standard click on optional '{}' failed ({}). Retrying with JavaScript.", logName, e.getClass().getSimpleName());
+            StepMetrics.recordJsClickFallback(locator);
+            Optional<WebElement> retry = WaitUtils.waitForOptionalElement(locator, true);
+            if (retry.isEmpty()) {
+                return false;
+            }
+            ((JavascriptExecutor) getDriver()).executeScript("arguments[0].click();", retry.get());
+        }
+        logger.debug("Clicked optional '{}'", logName);
+        return true;
     }
 
 
@@ -117,19 +165,26 @@ public class BasePage {
     }
 
 
+    protected void capturePagePerformance(String pageName) {
+        if (PagePerformanceMonitor.isEnabled()) {
+            logger.debug("STEP: Capture performance metrics for '{}' page", pageName);
+            PagePerformanceMonitor.capture(pageName);
+        }
+    }
+
     protected String getCurrentPageUrl() {
-        logger.info("STEP: Get current page URL");
-        String url = driver.getCurrentUrl();
+        logger.debug("STEP: Get current page URL");
+        String url = getDriver().getCurrentUrl();
         logger.debug("Current URL is: {}", url);
         return url;
     }
 
     protected void scrollToElementInContainer(By containerLocator, By elementLocator) {
-        logger.info("STEP: Scroll to element {} inside container {}", elementLocator, containerLocator);
+        logger.debug("STEP: Scroll to element {} inside container {}", elementLocator, containerLocator);
         WebElement container = waitForVisibility(containerLocator);
         WebElement element = waitForVisibility(elementLocator);
 
-        ((JavascriptExecutor) driver).executeScript(
+        ((JavascriptExecutor) getDriver()).executeScript(
                 "arguments[0].scrollTop = arguments[1].offsetTop - arguments[0].offsetHeight / 2;",
                 container, element
         );
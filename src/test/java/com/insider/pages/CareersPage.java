@@ -1,7 +1,10 @@
 package com.insider.pages;
 
+import com.insider.utils.LocatorWaitResult;
 import org.openqa.selenium.By;
 
+import java.util.Map;
+
 public class CareersPage extends BasePage {
 
     public final By teamsSection = By.xpath("//h3[normalize-space(.)='Find your calling']");
@@ -10,15 +13,16 @@ public class CareersPage extends BasePage {
     private final By seeAllTeamsButton = By.xpath("//a[normalize-space(.)='See all teams']");
     private final By qaSection = By.xpath("//h3[normalize-space(.)='Quality Assurance']");
 
-    public boolean isSectionDisplayed(By sectionLocator, String sectionName) {
-        logger.info("STEP: Verify '{}' section is displayed on Careers page", sectionName);
-        return isElementDisplayed(sectionLocator, sectionName);
+    public Map<String, LocatorWaitResult> getSectionsDisplayStatus(Map<String, By> sections) {
+        logger.info("STEP: Verify sections {} are displayed on Careers page", sections.keySet());
+        return getElementsDisplayStatus(sections);
     }
 
     public QualityAssurancePage goToQaJobsPage() {
         logger.info("STEP: Navigate to QA job listings page");
         clickElement(seeAllTeamsButton);
         clickElement(qaSection);
+        capturePagePerformance("quality-assurance");
         return new QualityAssurancePage();
     }
 }
@@ -14,8 +14,8 @@ public class HomePage extends BasePage {
     public void acceptCookiesIfVisible() {
         logger.info("STEP: Handle cookie consent banner if visible");
         try {
-            if (isElementDisplayed(cookieBanner, "Cookie Consent Banner")) {
-                clickElement(acceptCookiesButton);
+            if (isOptionalElementDisplayed(cookieBanner, "Cookie Consent Banner")
+                    && clickOptionalElement(acceptCookiesButton, "Accept All Cookies")) {
                 logger.debug("Cookie banner accepted and closed.");
             } else {
                 logger.debug("No cookie banner detected or already dismissed.");
@@ -28,8 +28,8 @@ public class HomePage extends BasePage {
     public void closePopupBannerIfVisible() {
         logger.info("STEP: Handle popup banner if visible");
         try {
-            if (isElementDisplayed(popupBanner, "Promotional Popup Banner")) {
-                clickElement(closePopupBannerButton);
+            if (isOptionalElementDisplayed(popupBanner, "Promotional Popup Banner")
+                    && clickOptionalElement(closePopupBannerButton, "Close Popup Banner")) {
                 logger.debug("Popup banner accepted and closed.");
             } else {
                 logger.debug("No popup banner detected or already dismissed.");
@@ -48,6 +48,7 @@ public class HomePage extends BasePage {
     public CareersPage goToCareersPage() {
         logger.info("STEP: Navigate to Careers Page via 'Company' → 'Careers'");
         hoverAndClickElement(companyMenu, careersLink);
+        capturePagePerformance("careers");
         return new CareersPage();
     }
 }
@@ -0,0 +1,171 @@
+package com.insider.pages;
+
+import com.insider.metrics.StepMetrics;
+import com.insider.utils.ConfigReader;
+import com.insider.utils.LocatorUtils;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Walks a rendered listing in batches of {@code listing.scan.batch.size} visible items, so the
+ * consumer can start validating the first records while later ones are still being read or loaded.
+ * When the rendered items are exhausted it scrolls to the end of the listing and waits up to
+ * {@code listing.scan.load.timeout.millis} for lazily loaded items, then follows the optional
+ * {@code listing.scan.next.page.selector} for at most {@code listing.scan.max.pages} pages.
+ */
+class ListingScanner extends Spliterators.AbstractSpliterator<Map<String, String>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListingScanner.class);
+    private static final int BATCH_SIZE = ConfigReader.getIntProperty("listing.scan.batch.size", 25);
+    private static final long LOAD_TIMEOUT_MILLIS = ConfigReader.getIntProperty("listing.scan.load.timeout.millis", 1000);
+    private static final String NEXT_PAGE_SELECTOR = ConfigReader.getProperty("listing.scan.next.page.selector", "");
+    private static final long PAGE_TIMEOUT_MILLIS = ConfigReader.getIntProperty("listing.scan.page.timeout.millis", 10000);
+    private static final int MAX_PAGES = ConfigReader.getIntProperty("listing.scan.max.pages", 50);
+    private static final String STALE_MARKER = "data-scan-stale";
+
+    /**
+     * Declares {@code whenTrue(condition, timeout, done)}, which reports {@code true} as soon as a
+     * DOM mutation satisfies the condition, or {@code false} once the timeout elapses.
+     */
+    private static final String WHEN_TRUE_FUNCTION =
+            "function whenTrue(condition, timeout, done) {" +
+            "  if (condition()) { done(true); return; }" +
+            "  var finished = false, observer, timer;" +
+            "  function finish(result) {" +
+            "    if (finished) { return; }" +
+            "    finished = true; observer.disconnect(); clearTimeout(timer); done(result);" +
+            "  }" +
+            "  observer = new MutationObserver(function () { if (condition()) { finish(true); } });" +
+            "  observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true});" +
+            "  timer = setTimeout(function () { finish(condition()); }, timeout);" +
+            "}";
+
+    private static final String READ_BATCH_SCRIPT = LocatorUtils.FIND_ALL_FUNCTION + LocatorUtils.IS_VISIBLE_FUNCTION +
+            LocatorUtils.READ_RECORD_FUNCTION +
+            "var locator = arguments[0], from = arguments[1], size = arguments[2], fields = arguments[3];" +
+            "var items = findAll(locator).filter(isVisible);" +
+            "return {" +
+            "  total: items.length," +
+            "  records: items.slice(from, from + size).map(function (item) { return readRecord(item, fields); })" +
+            "};";
+
+    private static final String LOAD_MORE_SCRIPT = LocatorUtils.FIND_ALL_FUNCTION + LocatorUtils.IS_VISIBLE_FUNCTION +
+            WHEN_TRUE_FUNCTION +
+            "var locator = arguments[0], known = arguments[1], timeout = arguments[2];" +
+            "var done = arguments[arguments.length - 1];" +
+            "var items = findAll(locator);" +
+            "if (items.length) { items[items.length - 1].scrollIntoView({block: 'end'}); }" +
+            "window.scrollTo(0, document.documentElement.scrollHeight);" +
+            "whenTrue(function () { return findAll(locator).filter(isVisible).length > known; }, timeout, done);";
+
+    private static final String NEXT_PAGE_SCRIPT = LocatorUtils.FIND_ALL_FUNCTION + LocatorUtils.IS_VISIBLE_FUNCTION +
+            WHEN_TRUE_FUNCTION +
+            "var locator = arguments[0], next = arguments[1], marker = arguments[2], timeout = arguments[3];" +
+            "var done = arguments[arguments.length - 1];" +
+            "var button = findAll(next).filter(isVisible).filter(function (b) {" +
+            "  return !b.disabled && b.getAttribute('aria-disabled') !== 'true' && !/\\bdisabled\\b/.test(b.className);" +
+            "})[0];" +
+            "if (!button) { done(false); return; }" +
+            "findAll(locator).forEach(function (item) { item.setAttribute(marker, 'true'); });" +
+            "button.click();" +
+            "whenTrue(function () {" +
+            "  var items = findAll(locator);" +
+            "  return items.length > 0 && items.every(function (item) { return !item.hasAttribute(marker); });" +
+            "}, timeout, done);";
+
+    private final WebDriver driver;
+    private final By itemLocator;
+    private final List<String> scriptLocator;
+    private final Map<String, String> fieldSelectors;
+    private final Deque<Map<String, String>> buffer = new ArrayDeque<>();
+    private int offset;
+    private int page = 1;
+    private boolean exhausted;
+
+    ListingScanner(WebDriver driver, By itemLocator, Map<String, String> fieldSelectors) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.driver = driver;
+        this.itemLocator = itemLocator;
+        this.scriptLocator = LocatorUtils.toScriptLocator(itemLocator);
+        this.fieldSelectors = fieldSelectors;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Map<String, String>> action) {
+        if (buffer.isEmpty() && !fill()) {
+            return false;
+        }
+        action.accept(buffer.poll());
+        return true;
+    }
+
+    private boolean fill() {
+        while (!exhausted) {
+            long start = System.nanoTime();
+            Map<?, ?> batch = (Map<?, ?>) ((JavascriptExecutor) driver)
+                    .executeScript(READ_BATCH_SCRIPT, scriptLocator, offset, BATCH_SIZE, fieldSelectors);
+            StepMetrics.record("scan.batch", itemLocator, start);
+            @SuppressWarnings("unchecked")
+            List<Map<String, String>> records = (List<Map<String, String>>) batch.get("records");
+            int total = ((Number) batch.get("total")).intValue();
+            if (!records.isEmpty()) {
+                offset += records.size();
+                buffer.addAll(records);
+                logger.debug("Scanned {} record(s) from {} (page {}, {} of {} rendered).", records.size(), itemLocator, page, offset, total);
+                return true;
+            }
+            if (loadMore(total)) {
+                continue;
+            }
+            if (nextPage()) {
+                offset = 0;
+                continue;
+            }
+            exhausted = true;
+            logger.debug("Listing {} fully scanned after {} page(s).", itemLocator, page);
+        }
+        return false;
+    }
+
+    private boolean loadMore(int knownItems) {
+        long start = System.nanoTime();
+        try {
+            return Boolean.TRUE.equals(((JavascriptExecutor) driver)
+                    .executeAsyncScript(LOAD_MORE_SCRIPT, scriptLocator, knownItems, LOAD_TIMEOUT_MILLIS));
+        } finally {
+            StepMetrics.record("scan.loadMore", itemLocator, start);
+        }
+    }
+
+    private boolean nextPage() {
+        if (NEXT_PAGE_SELECTOR.isEmpty()) {
+            return false;
+        }
+        if (page >= MAX_PAGES) {
+            logger.warn("Stopped scanning {} after {} page(s) (listing.scan.max.pages).", itemLocator, MAX_PAGES);
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            boolean moved = Boolean.TRUE.equals(((JavascriptExecutor) driver).executeAsyncScript(NEXT_PAGE_SCRIPT, scriptLocator,
+                    LocatorUtils.toScriptLocator(By.cssSelector(NEXT_PAGE_SELECTOR)), STALE_MARKER, PAGE_TIMEOUT_MILLIS));
+            if (moved) {
+                page++;
+            }
+            return moved;
+        } finally {
+            StepMetrics.record("scan.nextPage", itemLocator, start);
+        }
+    }
+}
@@ -1,26 +1,131 @@
 package com.insider.pages;
 
+import com.insider.enums.FilterMode;
+import com.insider.models.JobCard;
+import com.insider.utils.ConfigReader;
 import com.insider.utils.WaitUtils;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 
+import java.net.URI;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class OpenPositionsPage extends BasePage{
 
+    private static final String ALL_OPTION = "All";
+    private static final FilterMode FILTER_MODE = FilterMode.valueOf(ConfigReader.getProperty("filter.mode", "UI").toUpperCase());
+    private static final String STALE_MARKER = "data-filter-stale";
+    private static final long LISTING_SETTLE_MILLIS = 500;
+
+    /**
+     * Sets the native selects behind the select2 widgets and fires the change events the widget
+     * and the job listing listen for. Existing job cards are stamped first and an observer records
+     * when the listing container last changed, so the caller can tell when the listing has been
+     * re-rendered and settled. Returns the filters whose option was not found, with the available
+     * options, or the number of changed filters.
+     */
+    private static final String SET_FILTERS_SCRIPT =
+            "var filters = arguments[0], itemSelector = arguments[1], marker = arguments[2], listSelector = arguments[3];" +
+            "var missing = {}, changes = [];" +
+            "Object.keys(filters).forEach(function (id) {" +
+            "  var select = document.getElementById(id);" +
+            "  var options = select ? Array.prototype.slice.call(select.options) : [];" +
+            "  var option = options.filter(function (o) { return o.text.trim() === filters[id]; })[0];" +
+            "  if (!option) { missing[id] = options.map(function (o) { return o.text.trim(); }); return; }" +
+            "  if (select.value !== option.value) { changes.push([select, option.value]); }" +
+            "});" +
+            "if (Object.keys(missing).length) { return {missing: missing}; }" +
+            "if (changes.length) {" +
+            "  document.querySelectorAll(itemSelector).forEach(function (item) { item.setAttribute(marker, 'true'); });" +
+            "  if (window.__filterObserver) { window.__filterObserver.disconnect(); }" +
+            "  var list = document.querySelector(listSelector);" +
+            "  window.__filterLastMutation = Date.now();" +
+            "  if (list) {" +
+            "    window.__filterObserver = new MutationObserver(function () { window.__filterLastMutation = Date.now(); });" +
+            "    window.__filterObserver.observe(list, {childList: true, subtree: true});" +
+            "  }" +
+            "}" +
+            "changes.forEach(function (change) {" +
+            "  var select = change[0];" +
+            "  select.value = change[1];" +
+            "  if (window.jQuery) { window.jQuery(select).val(change[1]).trigger('change'); }" +
+            "  else { select.dispatchEvent(new Event('change', {bubbles: true})); }" +
+            "});" +
+            "return {changed: changes.length};";
+
+    /**
+     * True once no stamped card is left and the listing container has not changed for the settle
+     * time. Settling covers a listing that renders once per filter change and one that had no cards
+     * before or ends up empty; what the cards show is left to the tests.
+     */
+    private static final String LISTING_SETTLED_SCRIPT =
+            "var last = window.__filterLastMutation;" +
+            "var settled = document.querySelectorAll(arguments[0] + '[' + arguments[1] + ']').length === 0" +
+            "    && Date.now() - (last || 0) >= arguments[2];" +
+            "if (settled && window.__filterObserver) { window.__filterObserver.disconnect(); window.__filterObserver = null; }" +
+            "return settled;";
+
     private final By locationFilter = By.cssSelector("#select2-filter-by-location-container");
     private final By departmentFilter = By.cssSelector("#select2-filter-by-department-container");
     private final By jobsList = By.cssSelector(".position-list");
-    private final By positionTitle = By.cssSelector("#jobs-list .position-list-item:first-child .position-title");
-    private final By positionDepartment = By.cssSelector("#jobs-list .position-list-item:first-child .position-department");
-    private final By positionLocation = By.cssSelector("#jobs-list .position-list-item:first-child .position-location");
+    private final String jobListSelector = "#jobs-list";
+    private final String jobCardSelector = jobListSelector + " .position-list-item";
+    private final By jobCards = By.cssSelector(jobCardSelector);
     private final By firstJobViewRoleButton = By.xpath("(//a[text()='View Role'])[1]");
     private final By departmentFilterQATitle = By.cssSelector("#select2-filter-by-department-container[title='Quality Assurance']");
     private final By qaDepartmentSpans = By.xpath("//span[contains(@class,'position-department') and text()='Quality Assurance']");
+    private final Map<String, String> jobCardFields = Map.of(
+            "title", ".position-title",
+            "department", ".position-department",
+            "location", ".position-location",
+            "viewRoleUrl", "a@href");
 
 
+    /**
+     * Opens the open positions page directly from {@code open.positions.path}, skipping the
+     * Home → Careers → Quality Assurance journey.
+     */
+    public void open() {
+        String url = URI.create(ConfigReader.getProperty("app.url"))
+                .resolve(ConfigReader.getProperty("open.positions.path")).toString();
+        logger.info("STEP: Open the open positions page directly at {}", url);
+        getDriver().get(url);
+        capturePagePerformance("open-positions");
+    }
+
+    /**
+     * Cheap check for a page left open by the previous test: the job list is only probed for the
+     * short optional wait, so a fresh session does not pay the full explicit wait timeout.
+     */
+    public boolean isOpen() {
+        return getCurrentPageUrl().contains("/open-positions") && isOptionalElementDisplayed(jobsList, "Job listings");
+    }
+
+    /**
+     * Puts both filters back to 'All' so the next combination can be applied in place with
+     * {@link #applyFilters(String, String)}.
+     */
+    public void resetFilters() {
+        logger.info("STEP: Reset job filters → Location: '{}', Department: '{}'", ALL_OPTION, ALL_OPTION);
+        if (FILTER_MODE == FilterMode.FAST) {
+            setFiltersDirectly(ALL_OPTION, ALL_OPTION);
+            return;
+        }
+        selectDropdownOption(locationFilter, ALL_OPTION);
+        selectDropdownOption(departmentFilter, ALL_OPTION);
+    }
+
     private void scrollToAndSelectDropdownOption(By dropdownContainerBy, String optionText) {
-        logger.info("STEP: Select '{}' from dropdown '{}'", optionText, dropdownContainerBy);
         WaitUtils.waitForVisibility(departmentFilterQATitle);
+        selectDropdownOption(dropdownContainerBy, optionText);
+    }
+
+    private void selectDropdownOption(By dropdownContainerBy, String optionText) {
+        logger.info("STEP: Select '{}' from dropdown '{}'", optionText, dropdownContainerBy);
         clickElement(dropdownContainerBy);
         String DROPDOWN_OPTION_XPATH = "//li[@role='option' and normalize-space(text())='%s']";
         By optionBy = By.xpath(String.format(DROPDOWN_OPTION_XPATH, optionText));
@@ -30,39 +135,105 @@ public class OpenPositionsPage extends BasePage{
 
     public void filterJobs(String location, String department) {
         logger.info("STEP: Apply job filters → Location: '{}', Department: '{}'", location, department);
+        if (FILTER_MODE == FilterMode.FAST) {
+            WaitUtils.waitForVisibility(departmentFilterQATitle);
+            setFiltersDirectly(location, department);
+            return;
+        }
         scrollToAndSelectDropdownOption(locationFilter, location);
         scrollToAndSelectDropdownOption(departmentFilter, department);
     }
 
+    /**
+     * Applies filters on a page that is already loaded and has been used before, so the initial
+     * 'Quality Assurance' pre-selection is not waited for.
+     */
+    public void applyFilters(String location, String department) {
+        logger.info("STEP: Re-apply job filters in place → Location: '{}', Department: '{}'", location, department);
+        if (FILTER_MODE == FilterMode.FAST) {
+            setFiltersDirectly(location, department);
+            return;
+        }
+        selectDropdownOption(locationFilter, location);
+        selectDropdownOption(departmentFilter, department);
+    }
+
+    /**
+     * Fast path for {@code filter.mode=FAST}: one script sets both filters, then the job listing is
+     * awaited until none of the previously rendered cards is left and the listing has settled.
+     */
+    private void setFiltersDirectly(String location, String department) {
+        Map<String, String> filters = new LinkedHashMap<>();
+        filters.put("filter-by-location", location);
+        filters.put("filter-by-department", department);
+        Map<?, ?> result = (Map<?, ?>) ((JavascriptExecutor) getDriver())
+                .executeScript(SET_FILTERS_SCRIPT, filters, jobCardSelector, STALE_MARKER, jobListSelector);
+        if (result.get("missing") != null) {
+            throw new IllegalArgumentException("Job filter option(s) not found. Missing options per filter with the available ones: "
+                    + result.get("missing"));
+        }
+        long changed = ((Number) result.get("changed")).longValue();
+        if (changed == 0) {
+            logger.debug("Filters already set to Location: '{}', Department: '{}'. Listing left as is.", location, department);
+            return;
+        }
+        WaitUtils.waitForScriptCondition("job listing to re-render after filtering", LISTING_SETTLED_SCRIPT,
+                jobCardSelector, STALE_MARKER, LISTING_SETTLE_MILLIS);
+    }
+
     public boolean areJobsDisplayed() {
         return areElementsDisplayed(jobsList, "Job listings");
     }
 
-    public List<String> getJobPositions() {
-        return getTextsAfterHover(qaDepartmentSpans, positionTitle, "job positions");
+    public List<JobCard> getJobCards() {
+        logger.info("STEP: Extract all displayed job cards");
+        WaitUtils.waitForVisibility(jobCards);
+        return extractRecords(jobCards, jobCardFields).stream()
+                .map(record -> new JobCard(record.get("title"), record.get("department"),
+                        record.get("location"), record.get("viewRoleUrl")))
+                .collect(Collectors.toList());
     }
 
-    public List<String> getJobDepartments() {
-        return getTextsAfterHover(qaDepartmentSpans, positionDepartment, "job departments");
+    /**
+     * Streams every job card in the listing, including cards loaded on scroll or on further pages,
+     * as it is read. Close the stream or stop consuming it to end the scan early.
+     */
+    public Stream<JobCard> scanJobCards() {
+        logger.info("STEP: Scan all job cards in the listing");
+        WaitUtils.waitForVisibility(jobCards);
+        return streamRecords(jobCards, jobCardFields)
+                .map(record -> new JobCard(record.get("title"), record.get("department"),
+                        record.get("location"), record.get("viewRoleUrl")));
     }
 
-    public List<String> getJobLocations() {
-        return getTextsAfterHover(qaDepartmentSpans, positionLocation, "job locations");
+    /**
+     * Reads the 'View Role' link of every displayed job card in a single script call, for
+     * {@code view.role.verification=HTTP}.
+     */
+    public List<String> getViewRoleUrls() {
+        logger.info("STEP: Read the 'View Role' links of all displayed job cards");
+        WaitUtils.waitForVisibility(jobCards);
+        URI pageUrl = URI.create(getCurrentPageUrl());
+        return extractRecords(jobCards, Map.of("viewRoleUrl", jobCardFields.get("viewRoleUrl"))).stream()
+                .map(record -> record.get("viewRoleUrl"))
+                .map(href -> href == null ? null : pageUrl.resolve(href.trim()).toString())
+                .collect(Collectors.toList());
     }
 
     public String clickViewRoleAndGetUrl() {
         logger.info("STEP: Click 'View Role' for the first job and navigate to application form");
         hoverAndClickElement(qaDepartmentSpans, firstJobViewRoleButton);
 
-        String originalWindow = driver.getWindowHandle();
+        String originalWindow = getDriver().getWindowHandle();
         WaitUtils.waitForNumberOfWindowsToBe(2);
 
-        for (String windowHandle : driver.getWindowHandles()) {
+        for (String windowHandle : getDriver().getWindowHandles()) {
             if (!windowHandle.equals(originalWindow)) {
-                driver.switchTo().window(windowHandle);
+                getDriver().switchTo().window(windowHandle);
                 break;
             }
         }
+        capturePagePerformance("lever");
         return getCurrentPageUrl();
     }
 }
@@ -8,10 +8,10 @@ public class QualityAssurancePage extends BasePage {
 
     public void clickSeeAllQaJobs() {
         logger.info("STEP: Click 'See all QA jobs' to load available positions");
-        try {
-            clickElement(seeAllQaJobsButton);
-        } catch (Exception e) {
-            logger.debug("'See all QA jobs' button not found or not clickable. Assuming jobs are already displayed.", e);
+        if (clickOptionalElement(seeAllQaJobsButton, "See all QA jobs")) {
+            capturePagePerformance("open-positions");
+        } else {
+            logger.debug("'See all QA jobs' button not found or not clickable. Assuming jobs are already displayed.");
         }
     }
 }
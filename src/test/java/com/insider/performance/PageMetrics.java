@@ -0,0 +1,14 @@
+package com.insider.performance;
+
+import java.util.Map;
+
+public record PageMetrics(String page,
+                          String url,
+                          Long domContentLoadedMillis,
+                          Long loadMillis,
+                          Long firstContentfulPaintMillis,
+                          Long largestContentfulPaintMillis,
+                          long transferSizeBytes,
+                          int resourceCount,
+                          Map<String, Object> devToolsMetrics) {
+}
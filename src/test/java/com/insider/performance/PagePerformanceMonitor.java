@@ -0,0 +1,187 @@
+package com.insider.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insider.driver.DriverManager;
+import com.insider.utils.ConfigReader;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Collects real-user performance data (Navigation Timing, Paint Timing, resource entries and, on
+ * Chromium, DevTools {@code Performance.getMetrics}) after each page transition, checks it against
+ * the configured {@link PerformanceBudget} and appends it to a per-page trend file.
+ */
+public class PagePerformanceMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PagePerformanceMonitor.class);
+    private static final boolean ENABLED = ConfigReader.getBooleanProperty("perf.enabled", false);
+    private static final boolean FAIL_ON_BUDGET = "FAIL".equalsIgnoreCase(ConfigReader.getProperty("perf.budget.mode", "WARN"));
+    private static final Duration CAPTURE_TIMEOUT = Duration.ofMillis(ConfigReader.getIntProperty("perf.capture.timeout.millis", 10000));
+    private static final long NAVIGATION_GRACE_MILLIS = ConfigReader.getIntProperty("perf.navigation.grace.millis", 1000);
+    private static final Object NO_NAVIGATION = new Object();
+    private static final Path TREND_DIR = Paths.get(ConfigReader.getProperty("perf.trend.dir", "performance-trends"));
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final ThreadLocal<Object> lastTimeOrigin = new ThreadLocal<>();
+
+    private static final String DOCUMENT_STATE_SCRIPT =
+            "return {timeOrigin: performance.timeOrigin, readyState: document.readyState};";
+
+    private static final String COLLECT_SCRIPT =
+            "var nav = performance.getEntriesByType('navigation')[0] || {};" +
+            "var resources = performance.getEntriesByType('resource');" +
+            "var fcp = performance.getEntriesByName('first-contentful-paint')[0];" +
+            "var lcp = null;" +
+            "try {" +
+            "  var observer = new PerformanceObserver(function () {});" +
+            "  observer.observe({type: 'largest-contentful-paint', buffered: true});" +
+            "  var entries = observer.takeRecords();" +
+            "  observer.disconnect();" +
+            "  if (entries.length) { lcp = entries[entries.length - 1].startTime; }" +
+            "} catch (e) {}" +
+            "var transfer = nav.transferSize || 0;" +
+            "resources.forEach(function (r) { transfer += r.transferSize || 0; });" +
+            "return {" +
+            "  url: location.href," +
+            "  dcl: nav.domContentLoadedEventEnd ? Math.round(nav.domContentLoadedEventEnd) : null," +
+            "  load: nav.loadEventEnd ? Math.round(nav.loadEventEnd) : null," +
+            "  fcp: fcp ? Math.round(fcp.startTime) : null," +
+            "  lcp: lcp === null ? null : Math.round(lcp)," +
+            "  transfer: transfer," +
+            "  resources: resources.length" +
+            "};";
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Waits for a document that has not been captured yet on this thread to finish loading, then
+     * records its metrics. A navigation that has started gets up to {@code perf.capture.timeout.millis}
+     * to complete; when the captured document is still shown and complete after
+     * {@code perf.navigation.grace.millis}, there was no navigation and the capture is skipped.
+     */
+    public static Optional<PageMetrics> capture(String pageName) {
+        if (!ENABLED) {
+            return Optional.empty();
+        }
+        WebDriver driver = DriverManager.getDriver();
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        Object previousOrigin = lastTimeOrigin.get();
+        long graceDeadline = System.currentTimeMillis() + NAVIGATION_GRACE_MILLIS;
+        boolean[] navigating = {false};
+        try {
+            Object timeOrigin = new FluentWait<>(driver)
+                    .withTimeout(CAPTURE_TIMEOUT)
+                    .pollingEvery(Duration.ofMillis(100))
+                    .ignoring(JavascriptException.class)
+                    .until(d -> {
+                        Map<?, ?> state = (Map<?, ?>) js.executeScript(DOCUMENT_STATE_SCRIPT);
+                        Object origin = state.get("timeOrigin");
+                        boolean complete = "complete".equals(state.get("readyState"));
+                        if (complete && !origin.equals(previousOrigin)) {
+                            return origin;
+                        }
+                        navigating[0] |= !complete || !origin.equals(previousOrigin);
+                        return navigating[0] || System.currentTimeMillis() < graceDeadline ? null : NO_NAVIGATION;
+                    });
+            if (timeOrigin == NO_NAVIGATION) {
+                logger.debug("No navigation since the last capture for '{}'. Skipping performance capture.", pageName);
+                return Optional.empty();
+            }
+            lastTimeOrigin.set(timeOrigin);
+        } catch (TimeoutException e) {
+            logger.warn("Page load for '{}' did not complete within {} ms. Skipping performance capture.", pageName, CAPTURE_TIMEOUT.toMillis());
+            return Optional.empty();
+        }
+
+        Map<?, ?> raw = (Map<?, ?>) js.executeScript(COLLECT_SCRIPT);
+        PageMetrics metrics = new PageMetrics(pageName,
+                String.valueOf(raw.get("url")),
+                toLong(raw.get("dcl")),
+                toLong(raw.get("load")),
+                toLong(raw.get("fcp")),
+                toLong(raw.get("lcp")),
+                toLong(raw.get("transfer")),
+                toLong(raw.get("resources")).intValue(),
+                readDevToolsMetrics(driver));
+        logger.info("Performance of '{}': DCL={} ms, load={} ms, FCP={} ms, LCP={} ms, transfer={} KB, resources={}",
+                pageName, metrics.domContentLoadedMillis(), metrics.loadMillis(), metrics.firstContentfulPaintMillis(),
+                metrics.largestContentfulPaintMillis(), metrics.transferSizeBytes() / 1024, metrics.resourceCount());
+
+        List<String> violations = PerformanceBudget.forPage(pageName).findViolations(metrics);
+        appendTrend(metrics, violations);
+        if (!violations.isEmpty()) {
+            String message = "Performance budget exceeded on '" + pageName + "' (" + metrics.url() + "): " + String.join("; ", violations);
+            if (FAIL_ON_BUDGET) {
+                Assert.fail(message);
+            }
+            logger.warn(message);
+        }
+        return Optional.of(metrics);
+    }
+
+    public static void reset() {
+        lastTimeOrigin.remove();
+    }
+
+    private static Map<String, Object> readDevToolsMetrics(WebDriver driver) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (!(driver instanceof HasCdp)) {
+            return result;
+        }
+        try {
+            HasCdp cdp = (HasCdp) driver;
+            cdp.executeCdpCommand("Performance.enable", Map.of());
+            Object metrics = cdp.executeCdpCommand("Performance.getMetrics", Map.of()).get("metrics");
+            if (metrics instanceof List) {
+                for (Object entry : (List<?>) metrics) {
+                    Map<?, ?> metric = (Map<?, ?>) entry;
+                    result.put(String.valueOf(metric.get("name")), metric.get("value"));
+                }
+            }
+        } catch (WebDriverException e) {
+            logger.debug("DevTools performance metrics unavailable: {}", e.getMessage());
+        }
+        return result;
+    }
+
+    private static synchronized void appendTrend(PageMetrics metrics, List<String> violations) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("timestamp", Instant.now().toString());
+        entry.put("metrics", metrics);
+        entry.put("budgetViolations", violations);
+        Path trendFile = TREND_DIR.resolve(metrics.page() + ".jsonl");
+        try {
+            Files.createDirectories(TREND_DIR);
+            Files.writeString(trendFile, mapper.writeValueAsString(entry) + System.lineSeparator(), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.warn("Failed to append performance trend to {}. Error: {}", trendFile, e.getMessage());
+        }
+    }
+
+    private static Long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+}
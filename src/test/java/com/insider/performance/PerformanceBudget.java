@@ -0,0 +1,40 @@
+package com.insider.performance;
+
+import com.insider.utils.ConfigReader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-page limits read from {@code perf.budget.<page>.*}, falling back to {@code perf.budget.default.*}.
+ * A missing or non-positive limit disables that check.
+ */
+public record PerformanceBudget(String page, long lcpMillis, long domContentLoadedMillis, long transferSizeKb) {
+
+    public static PerformanceBudget forPage(String page) {
+        return new PerformanceBudget(page,
+                limit(page, "lcp.millis"),
+                limit(page, "dcl.millis"),
+                limit(page, "transfer.kb"));
+    }
+
+    public List<String> findViolations(PageMetrics metrics) {
+        List<String> violations = new ArrayList<>();
+        if (lcpMillis > 0 && metrics.largestContentfulPaintMillis() != null && metrics.largestContentfulPaintMillis() > lcpMillis) {
+            violations.add("LCP " + metrics.largestContentfulPaintMillis() + " ms > budget " + lcpMillis + " ms");
+        }
+        if (domContentLoadedMillis > 0 && metrics.domContentLoadedMillis() != null && metrics.domContentLoadedMillis() > domContentLoadedMillis) {
+            violations.add("DOMContentLoaded " + metrics.domContentLoadedMillis() + " ms > budget " + domContentLoadedMillis + " ms");
+        }
+        long transferKb = metrics.transferSizeBytes() / 1024;
+        if (transferSizeKb > 0 && transferKb > transferSizeKb) {
+            violations.add("Transfer size " + transferKb + " KB > budget " + transferSizeKb + " KB");
+        }
+        return violations;
+    }
+
+    private static long limit(String page, String metric) {
+        return ConfigReader.getIntProperty("perf.budget." + page + "." + metric,
+                ConfigReader.getIntProperty("perf.budget.default." + metric, 0));
+    }
+}
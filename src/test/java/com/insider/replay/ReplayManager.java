@@ -0,0 +1,178 @@
+package com.insider.replay;
+
+import com.insider.enums.ReplayMode;
+import com.insider.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Record and replay of the browser's HTTP traffic.
+ * <ul>
+ *     <li>RECORD: every response seen by the browser is captured through a DevTools network
+ *     interceptor and written to {@code replay.archive.path} when the suite passes.</li>
+ *     <li>REPLAY: the archive is served by an embedded {@link ReplayServer}; the interceptor maps
+ *     every browser request onto that server, so no request leaves the machine while page URLs
+ *     stay unchanged.</li>
+ * </ul>
+ */
+public class ReplayManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplayManager.class);
+    private static final ReplayMode MODE = ReplayMode.valueOf(ConfigReader.getProperty("replay.mode", "OFF").toUpperCase());
+    private static final Path ARCHIVE_PATH = Paths.get(ConfigReader.getProperty("replay.archive.path", "recordings/insider-careers.har.json"));
+    private static final int SERVER_PORT = ConfigReader.getIntProperty("replay.server.port", 0);
+    private static final int MAX_BODY_BYTES = ConfigReader.getIntProperty("replay.record.max.body.kb", 4096) * 1024;
+    private static final Set<String> SKIPPED_HEADERS = Set.of("content-length", "content-encoding", "transfer-encoding", "connection");
+
+    private static final Map<WebDriver, NetworkInterceptor> interceptors = new ConcurrentHashMap<>();
+    private static TrafficArchive archive;
+    private static ReplayServer server;
+    private static HttpClient replayClient;
+
+    public static ReplayMode getMode() {
+        return MODE;
+    }
+
+    public static synchronized void start() {
+        if (MODE == ReplayMode.OFF || archive != null) {
+            return;
+        }
+        if (MODE == ReplayMode.RECORD) {
+            archive = new TrafficArchive();
+            logger.info("Recording browser traffic to {}", ARCHIVE_PATH.toAbsolutePath());
+            return;
+        }
+        try {
+            if (!Files.exists(ARCHIVE_PATH)) {
+                throw new IllegalStateException("Replay mode requires a recorded archive at " + ARCHIVE_PATH.toAbsolutePath()
+                        + ". Run once with replay.mode=RECORD first.");
+            }
+            archive = TrafficArchive.load(ARCHIVE_PATH);
+            server = new ReplayServer(archive, SERVER_PORT);
+            replayClient = HttpClient.newBuilder()
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start traffic replay from " + ARCHIVE_PATH, e);
+        }
+    }
+
+    public static void attach(WebDriver driver) {
+        if (MODE == ReplayMode.OFF) {
+            return;
+        }
+        start();
+        if (!(driver instanceof HasDevTools)) {
+            throw new IllegalStateException("replay.mode=" + MODE + " needs a DevTools-capable browser (Chrome or Edge), but got "
+                    + driver.getClass().getSimpleName() + ".");
+        }
+        Filter filter = MODE == ReplayMode.RECORD ? recordingFilter() : replayFilter();
+        interceptors.put(driver, new NetworkInterceptor(driver, filter));
+        logger.debug("Traffic {} interceptor attached to browser session.", MODE);
+    }
+
+    public static void detach(WebDriver driver) {
+        NetworkInterceptor interceptor = interceptors.remove(driver);
+        if (interceptor != null) {
+            try {
+                interceptor.close();
+            } catch (RuntimeException e) {
+                logger.debug("Network interceptor already closed: {}", e.getMessage());
+            }
+        }
+    }
+
+    public static synchronized void finish(boolean suitePassed) {
+        if (archive == null) {
+            return;
+        }
+        if (MODE == ReplayMode.RECORD) {
+            if (suitePassed) {
+                try {
+                    archive.save(ARCHIVE_PATH);
+                    logger.info("Recorded {} response(s) to {}", archive.size(), ARCHIVE_PATH.toAbsolutePath());
+                } catch (IOException e) {
+                    logger.error("Failed to write traffic archive {}. Error: {}", ARCHIVE_PATH, e.getMessage(), e);
+                }
+            } else {
+                logger.warn("Suite had failures. Recorded traffic was NOT saved to {}.", ARCHIVE_PATH);
+            }
+        } else if (server != null) {
+            server.close();
+            server = null;
+        }
+        archive = null;
+    }
+
+    private static Filter recordingFilter() {
+        TrafficArchive recording = archive;
+        return next -> request -> {
+            HttpResponse response = next.execute(request);
+            byte[] body = Contents.bytes(response.getContent());
+            response.setContent(Contents.bytes(body));
+            if (body.length <= MAX_BODY_BYTES) {
+                List<TrafficArchive.Header> headers = new ArrayList<>();
+                response.forEachHeader((name, value) -> {
+                    if (!SKIPPED_HEADERS.contains(name.toLowerCase())) {
+                        headers.add(new TrafficArchive.Header(name, value));
+                    }
+                });
+                String contentType = response.getHeader("Content-Type");
+                recording.put(new TrafficArchive.Entry(request.getMethod().toString(), request.getUri(), response.getStatus(),
+                        headers, contentType == null ? "" : contentType, body));
+            }
+            return response;
+        };
+    }
+
+    private static Filter replayFilter() {
+        ReplayServer replayServer = server;
+        HttpClient client = replayClient;
+        return next -> request -> {
+            byte[] requestBody = Contents.bytes(request.getContent());
+            HttpRequest replayRequest = HttpRequest.newBuilder(replayServer.resolve(request.getMethod().toString(), request.getUri()))
+                    .timeout(Duration.ofSeconds(10))
+                    .method(request.getMethod().toString(), requestBody.length == 0
+                            ? HttpRequest.BodyPublishers.noBody()
+                            : HttpRequest.BodyPublishers.ofByteArray(requestBody))
+                    .build();
+            try {
+                java.net.http.HttpResponse<byte[]> replayed = client.send(replayRequest, java.net.http.HttpResponse.BodyHandlers.ofByteArray());
+                HttpResponse response = new HttpResponse().setStatus(replayed.statusCode());
+                replayed.headers().map().forEach((name, values) -> {
+                    if (!SKIPPED_HEADERS.contains(name.toLowerCase()) && !name.startsWith(":")) {
+                        values.forEach(value -> response.addHeader(name, value));
+                    }
+                });
+                response.setContent(Contents.bytes(replayed.body()));
+                return response;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Replay server request failed for " + request.getUri(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while replaying " + request.getUri(), e);
+            }
+        };
+    }
+}
@@ -0,0 +1,104 @@
+package com.insider.replay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embedded loopback HTTP server that serves a {@link TrafficArchive}. The original request is
+ * addressed as {@code /replay?method=GET&url=<absolute url>}; unknown requests get a 404 so a
+ * replay run never falls through to the network.
+ */
+public class ReplayServer implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplayServer.class);
+    private static final Set<String> SKIPPED_HEADERS = Set.of("content-length", "content-encoding", "transfer-encoding", "connection");
+
+    private final TrafficArchive archive;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong misses = new AtomicLong();
+
+    public ReplayServer(TrafficArchive archive, int port) throws IOException {
+        this.archive = archive;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newFixedThreadPool(8, runnable -> {
+            Thread thread = new Thread(runnable, "replay-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/replay", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        logger.info("Replay server started at {} serving {} recorded response(s).", getBaseUri(), archive.size());
+    }
+
+    public URI getBaseUri() {
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+    }
+
+    public URI resolve(String method, String originalUrl) {
+        return getBaseUri().resolve("/replay?method=" + method + "&url=" + URLEncoder.encode(originalUrl, StandardCharsets.UTF_8));
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = "GET";
+        String url = null;
+        String query = exchange.getRequestURI().getRawQuery();
+        for (String parameter : query == null ? new String[0] : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            if (separator < 0) {
+                continue;
+            }
+            String value = URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8);
+            if (parameter.startsWith("method=")) {
+                method = value;
+            } else if (parameter.startsWith("url=")) {
+                url = value;
+            }
+        }
+
+        Optional<TrafficArchive.Entry> entry = url == null ? Optional.empty() : archive.find(method, url);
+        try (exchange; OutputStream body = exchange.getResponseBody()) {
+            if (entry.isEmpty()) {
+                misses.incrementAndGet();
+                logger.debug("No recorded response for {} {}", method, url);
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            TrafficArchive.Entry recorded = entry.get();
+            recorded.headers().stream()
+                    .filter(header -> !SKIPPED_HEADERS.contains(header.name().toLowerCase()))
+                    .forEach(header -> exchange.getResponseHeaders().add(header.name(), header.value()));
+            byte[] content = recorded.body();
+            exchange.sendResponseHeaders(recorded.status(), content.length == 0 ? -1 : content.length);
+            body.write(content);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        logger.info("Replay server stopped. Unmatched requests: {}", misses.get());
+    }
+}
@@ -0,0 +1,104 @@
+package com.insider.replay;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Recorded HTTP exchanges, persisted as a HAR 1.2 subset (request method/URL, response status,
+ * headers and base64 body). Lookups match the exact URL first and then the URL without its query
+ * string, so cache-busting parameters do not break replay.
+ */
+public class TrafficArchive {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private final Map<String, Entry> exactEntries = new ConcurrentHashMap<>();
+    private final Map<String, Entry> pathEntries = new ConcurrentHashMap<>();
+
+    public record Header(String name, String value) {
+    }
+
+    public record Entry(String method, String url, int status, List<Header> headers, String mimeType, byte[] body) {
+    }
+
+    public static TrafficArchive load(Path file) throws IOException {
+        TrafficArchive archive = new TrafficArchive();
+        for (JsonNode node : mapper.readTree(file.toFile()).path("log").path("entries")) {
+            JsonNode request = node.path("request");
+            JsonNode response = node.path("response");
+            List<Header> headers = new ArrayList<>();
+            response.path("headers").forEach(header -> headers.add(new Header(header.path("name").asText(), header.path("value").asText())));
+            JsonNode content = response.path("content");
+            String text = content.path("text").asText("");
+            byte[] body = "base64".equals(content.path("encoding").asText()) ? Base64.getDecoder().decode(text) : text.getBytes(StandardCharsets.UTF_8);
+            archive.put(new Entry(request.path("method").asText(), request.path("url").asText(),
+                    response.path("status").asInt(), headers, content.path("mimeType").asText(""), body));
+        }
+        return archive;
+    }
+
+    public void put(Entry entry) {
+        exactEntries.put(key(entry.method(), entry.url()), entry);
+        pathEntries.putIfAbsent(key(entry.method(), stripQuery(entry.url())), entry);
+    }
+
+    public Optional<Entry> find(String method, String url) {
+        Entry entry = exactEntries.get(key(method, url));
+        if (entry == null) {
+            entry = pathEntries.get(key(method, stripQuery(url)));
+        }
+        return Optional.ofNullable(entry);
+    }
+
+    public int size() {
+        return exactEntries.size();
+    }
+
+    public void save(Path file) throws IOException {
+        ObjectNode root = mapper.createObjectNode();
+        ObjectNode log = root.putObject("log");
+        log.put("version", "1.2");
+        log.putObject("creator").put("name", "insider-e2e-recorder").put("version", "1.0");
+        ArrayNode entries = log.putArray("entries");
+        for (Entry entry : exactEntries.values()) {
+            ObjectNode node = entries.addObject();
+            node.putObject("request").put("method", entry.method()).put("url", entry.url());
+            ObjectNode response = node.putObject("response");
+            response.put("status", entry.status());
+            ArrayNode headers = response.putArray("headers");
+            entry.headers().forEach(header -> headers.addObject().put("name", header.name()).put("value", header.value()));
+            response.putObject("content")
+                    .put("mimeType", entry.mimeType())
+                    .put("encoding", "base64")
+                    .put("text", Base64.getEncoder().encodeToString(entry.body()));
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        mapper.writeValue(file.toFile(), root);
+    }
+
+    private static String key(String method, String url) {
+        return method.toUpperCase() + " " + url;
+    }
+
+    private static String stripQuery(String url) {
+        int fragment = url.indexOf('#');
+        String withoutFragment = fragment < 0 ? url : url.substring(0, fragment);
+        int query = withoutFragment.indexOf('?');
+        return query < 0 ? withoutFragment : withoutFragment.substring(0, query);
+    }
+}
@@ -0,0 +1,198 @@
+package com.insider.retry;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insider.enums.FailureCategory;
+import com.insider.listeners.LoggingContextListener;
+import com.insider.metrics.StepMetrics;
+import com.insider.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Retry bookkeeping for {@link TransientFailureRetryAnalyzer}: attempts per test invocation, failure
+ * categories, the failing step of every failed attempt and the invocations that recovered. At suite
+ * end it writes the flake report and {@code retry.rerun.file}, the test/row combinations that still
+ * failed, which {@code retry.rerun.failed.only=true} runs again without the rest of the suite.
+ */
+public class FlakeTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(FlakeTracker.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final boolean ENABLED = ConfigReader.getBooleanProperty("retry.enabled", true);
+    private static final int MAX_RETRIES = ConfigReader.getIntProperty("retry.max.attempts", 1);
+    private static final Set<FailureCategory> RETRY_CATEGORIES = Arrays.stream(
+                    ConfigReader.getProperty("retry.categories", "STALE_ELEMENT,TIMEOUT,CLICK_INTERCEPTED,NAVIGATION").split(","))
+            .map(String::trim)
+            .filter(name -> !name.isEmpty())
+            .map(name -> FailureCategory.valueOf(name.toUpperCase()))
+            .collect(Collectors.toSet());
+    private static final Path REPORT_FILE = Paths.get(ConfigReader.getProperty("retry.report.dir", "target/flake-report"), "flake-report.json");
+    private static final Path RERUN_FILE = Paths.get(ConfigReader.getProperty("retry.rerun.file", "target/rerun/failed-rows.json"));
+
+    private static final Map<String, AtomicInteger> retriesByInvocation = new ConcurrentHashMap<>();
+    private static final Map<FailureCategory, LongAdder> failuresByCategory = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder> transientFailuresByStep = new ConcurrentHashMap<>();
+    private static final List<Map<String, Object>> retriedAttempts = new CopyOnWriteArrayList<>();
+    private static final List<Map<String, Object>> recoveredInvocations = new CopyOnWriteArrayList<>();
+    private static final List<Map<String, Object>> failedInvocations = new CopyOnWriteArrayList<>();
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static boolean isRerunFailedOnly() {
+        return ConfigReader.getBooleanProperty("retry.rerun.failed.only", false);
+    }
+
+    /**
+     * Records a failed attempt and decides whether to run it again: only transient categories
+     * listed in {@code retry.categories}, at most {@code retry.max.attempts} times per invocation.
+     */
+    static boolean shouldRetry(ITestResult result, FailureCategory category) {
+        String invocation = LoggingContextListener.testId(result);
+        String step = StepMetrics.getLastStep();
+        failuresByCategory.computeIfAbsent(category, key -> new LongAdder()).increment();
+        if (category.isTransient() && step != null) {
+            transientFailuresByStep.computeIfAbsent(step, key -> new LongAdder()).increment();
+        }
+        AtomicInteger retries = retriesByInvocation.computeIfAbsent(invocation, key -> new AtomicInteger());
+        if (!ENABLED || !RETRY_CATEGORIES.contains(category) || retries.get() >= MAX_RETRIES) {
+            return false;
+        }
+        int attempt = retries.incrementAndGet();
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("invocation", invocation);
+        entry.put("category", category.name());
+        entry.put("step", step);
+        entry.put("durationMillis", result.getEndMillis() - result.getStartMillis());
+        entry.put("message", firstLine(result.getThrowable()));
+        retriedAttempts.add(entry);
+        logger.warn("STEP: Retrying {} ({}/{}) after a transient {} failure at '{}'.", invocation, attempt, MAX_RETRIES, category, step);
+        return true;
+    }
+
+    /**
+     * Records the final outcome of an invocation (retried attempts are not final).
+     */
+    public static void recordOutcome(ITestResult result) {
+        String invocation = LoggingContextListener.testId(result);
+        AtomicInteger retries = retriesByInvocation.get(invocation);
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("invocation", invocation);
+        if (result.isSuccess()) {
+            if (retries != null && retries.get() > 0) {
+                entry.put("retries", retries.get());
+                entry.put("retryDurationMillis", result.getEndMillis() - result.getStartMillis());
+                recoveredInvocations.add(entry);
+                logger.info("{} passed after {} retry(ies).", invocation, retries.get());
+            }
+            return;
+        }
+        entry.put("test", testName(result));
+        entry.put("parameters", Arrays.stream(result.getParameters()).map(String::valueOf).collect(Collectors.toList()));
+        entry.put("category", FailureCategory.classify(result.getThrowable()).name());
+        entry.put("message", firstLine(result.getThrowable()));
+        failedInvocations.add(entry);
+    }
+
+    /**
+     * Parameters (as strings) of the invocations of {@code test} (simple class name and method)
+     * listed in the rerun file. Empty when the file is missing or has no failures of this test.
+     */
+    public static List<List<String>> failedParameters(String test) {
+        if (!Files.exists(RERUN_FILE)) {
+            logger.warn("Rerun of failed rows requested, but {} does not exist. Nothing to rerun for {}.", RERUN_FILE, test);
+            return List.of();
+        }
+        try {
+            List<Map<String, Object>> failures = MAPPER.readValue(RERUN_FILE.toFile(), new TypeReference<>() {});
+            return failures.stream()
+                    .filter(failure -> test.equals(failure.get("test")))
+                    .map(failure -> ((List<?>) failure.get("parameters")).stream().map(String::valueOf).collect(Collectors.toList()))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the rerun file of failed rows: " + RERUN_FILE, e);
+        }
+    }
+
+    /**
+     * Writes the flake report and the rerun file. {@code suiteMillis} is the suite's wall time: when
+     * every failure recovered in-session, it is the full rerun that the retries made unnecessary.
+     */
+    public static void writeReports(String suiteName, long suiteMillis) {
+        long retryMillis = recoveredInvocations.stream().mapToLong(entry -> (Long) entry.get("retryDurationMillis")).sum();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("suite", suiteName);
+        report.put("retries", retriedAttempts.size());
+        report.put("recoveredInvocations", recoveredInvocations.size());
+        report.put("failedInvocations", failedInvocations.size());
+        report.put("retryMillis", retryMillis);
+        report.put("recoveredMillis", failedInvocations.isEmpty() && !recoveredInvocations.isEmpty() ? Math.max(0, suiteMillis - retryMillis) : 0);
+        Map<FailureCategory, Long> categories = new EnumMap<>(FailureCategory.class);
+        failuresByCategory.forEach((category, count) -> categories.put(category, count.sum()));
+        report.put("failuresByCategory", categories);
+        report.put("flakyLocators", flakyLocators());
+        report.put("retriedAttempts", retriedAttempts);
+        report.put("recovered", recoveredInvocations);
+        try {
+            Files.createDirectories(REPORT_FILE.getParent());
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(REPORT_FILE.toFile(), report);
+            Files.createDirectories(RERUN_FILE.toAbsolutePath().getParent());
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(RERUN_FILE.toFile(), failedInvocations);
+            logger.info("Flake report written to: {}. {} failed invocation(s) listed in {}.", REPORT_FILE.toAbsolutePath(),
+                    failedInvocations.size(), RERUN_FILE.toAbsolutePath());
+        } catch (IOException e) {
+            logger.error("Failed to write the flake report or rerun file. Error: {}", e.getMessage(), e);
+        }
+        if (!retriedAttempts.isEmpty()) {
+            logger.info("Retried {} attempt(s); {} invocation(s) recovered, {} still failing.", retriedAttempts.size(),
+                    recoveredInvocations.size(), failedInvocations.size());
+        }
+    }
+
+    private static Map<String, Object> flakyLocators() {
+        Map<String, Object> locators = new LinkedHashMap<>();
+        transientFailuresByStep.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .forEach(entry -> {
+                    long failures = entry.getValue().sum();
+                    long executions = StepMetrics.getStepCount(entry.getKey());
+                    Map<String, Object> stats = new LinkedHashMap<>();
+                    stats.put("transientFailures", failures);
+                    stats.put("executions", executions);
+                    stats.put("flakeRate", executions > 0 ? Math.round(1000.0 * failures / executions) / 1000.0 : null);
+                    locators.put(entry.getKey(), stats);
+                });
+        return locators;
+    }
+
+    private static String testName(ITestResult result) {
+        return result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+    }
+
+    private static String firstLine(Throwable failure) {
+        if (failure == null || failure.getMessage() == null) {
+            return failure == null ? null : failure.getClass().getName();
+        }
+        return failure.getClass().getSimpleName() + ": " + failure.getMessage().lines().findFirst().orElse("");
+    }
+}
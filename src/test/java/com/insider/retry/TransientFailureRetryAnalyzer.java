@@ -0,0 +1,18 @@
+package com.insider.retry;
+
+import com.insider.enums.FailureCategory;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+/**
+ * Retries a failed test invocation (one test method with one data row) when its failure is
+ * transient. Attempts are counted by {@link FlakeTracker} per invocation, so data rows are retried
+ * independently of each other.
+ */
+public class TransientFailureRetryAnalyzer implements IRetryAnalyzer {
+
+    @Override
+    public boolean retry(ITestResult result) {
+        return FlakeTracker.shouldRetry(result, FailureCategory.classify(result.getThrowable()));
+    }
+}
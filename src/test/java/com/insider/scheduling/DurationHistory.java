@@ -0,0 +1,168 @@
+package com.insider.scheduling;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insider.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Durations of previous runs per test method and data row, kept in {@code schedule.history.file}
+ * across runs. Each new measurement is blended into the stored value (exponentially weighted), so a
+ * single slow run does not dominate the schedule.
+ */
+public class DurationHistory {
+
+    private static final Logger logger = LoggerFactory.getLogger(DurationHistory.class);
+    private static final boolean ENABLED = ConfigReader.getBooleanProperty("schedule.enabled", false);
+    private static final Path HISTORY_FILE = Paths.get(ConfigReader.getProperty("schedule.history.file", "test-history/durations.json"));
+    private static final long DEFAULT_MILLIS = ConfigReader.getIntProperty("schedule.default.millis", 60000);
+    private static final double WEIGHT_OF_LATEST = 0.5;
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static volatile Map<String, Entry> entries;
+
+    /**
+     * One remembered test invocation: {@code test} is {@code Class.method}, {@code parameters}
+     * the data row as strings.
+     */
+    public record Entry(String test, List<String> parameters, long millis, int runs) {
+    }
+
+    private record HistoryFile(List<Entry> entries) {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static void record(String test, Object[] parameters, long millis) {
+        List<String> row = toRow(parameters);
+        getEntries().merge(key(test, row), new Entry(test, row, millis, 1), (previous, latest) -> new Entry(test, row,
+                Math.round(WEIGHT_OF_LATEST * latest.millis() + (1 - WEIGHT_OF_LATEST) * previous.millis()), previous.runs() + 1));
+    }
+
+    /**
+     * Expected duration of a data row. Unseen rows take the average of the rows of the same test
+     * that share the most parameter values with them (e.g. the same location), then the test's
+     * average, then {@code schedule.default.millis}.
+     */
+    public static long estimate(String test, Object[] parameters) {
+        List<String> row = toRow(parameters);
+        Entry known = getEntries().get(key(test, row));
+        if (known != null) {
+            return known.millis();
+        }
+        int bestSimilarity = -1;
+        long total = 0;
+        int count = 0;
+        for (Entry entry : getEntries().values()) {
+            if (!entry.test().equals(test)) {
+                continue;
+            }
+            int similarity = similarity(row, entry.parameters());
+            if (similarity > bestSimilarity) {
+                bestSimilarity = similarity;
+                total = 0;
+                count = 0;
+            }
+            if (similarity == bestSimilarity) {
+                total += entry.millis();
+                count++;
+            }
+        }
+        return count > 0 ? total / count : DEFAULT_MILLIS;
+    }
+
+    /**
+     * Expected duration of all known rows of a test method together, used to order methods.
+     */
+    public static long estimateMethod(String test) {
+        long total = getEntries().values().stream()
+                .filter(entry -> entry.test().equals(test))
+                .mapToLong(Entry::millis)
+                .sum();
+        return total > 0 ? total : DEFAULT_MILLIS;
+    }
+
+    /**
+     * Forgets every row of {@code test}, so they are not written by the next {@link #save()}.
+     */
+    public static void remove(String test) {
+        getEntries().values().removeIf(entry -> entry.test().equals(test));
+    }
+
+    public static synchronized void save() {
+        if (entries == null) {
+            return;
+        }
+        List<Entry> sorted = new ArrayList<>(entries.values());
+        sorted.sort(Comparator.comparing(Entry::test).thenComparing(entry -> String.join("|", entry.parameters())));
+        try {
+            if (HISTORY_FILE.getParent() != null) {
+                Files.createDirectories(HISTORY_FILE.getParent());
+            }
+            mapper.writerWithDefaultPrettyPrinter().writeValue(HISTORY_FILE.toFile(), new HistoryFile(sorted));
+            logger.info("Saved {} test duration(s) to {}", sorted.size(), HISTORY_FILE.toAbsolutePath());
+        } catch (IOException e) {
+            logger.warn("Failed to save test duration history to {}. Error: {}", HISTORY_FILE, e.getMessage());
+        }
+    }
+
+    private static Map<String, Entry> getEntries() {
+        if (entries == null) {
+            synchronized (DurationHistory.class) {
+                if (entries == null) {
+                    entries = load();
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static Map<String, Entry> load() {
+        Map<String, Entry> loaded = new ConcurrentHashMap<>();
+        if (!Files.exists(HISTORY_FILE)) {
+            logger.info("No test duration history at {}. Unseen tests are estimated at {} ms.", HISTORY_FILE, DEFAULT_MILLIS);
+            return loaded;
+        }
+        try {
+            HistoryFile file = mapper.readValue(HISTORY_FILE.toFile(), HistoryFile.class);
+            if (file.entries() != null) {
+                file.entries().forEach(entry -> loaded.put(key(entry.test(), entry.parameters()), entry));
+            }
+            logger.info("Loaded {} test duration(s) from {}", loaded.size(), HISTORY_FILE);
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable test duration history {}. Error: {}", HISTORY_FILE, e.getMessage());
+        }
+        return loaded;
+    }
+
+    private static List<String> toRow(Object[] parameters) {
+        return parameters == null ? List.of() : Arrays.stream(parameters).map(String::valueOf).toList();
+    }
+
+    private static int similarity(List<String> row, List<String> other) {
+        int matches = 0;
+        for (int i = 0; i < Math.min(row.size(), other.size()); i++) {
+            if (row.get(i).equals(other.get(i))) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static String key(String test, List<String> row) {
+        return test + row;
+    }
+}
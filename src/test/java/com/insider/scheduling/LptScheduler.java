@@ -0,0 +1,53 @@
+package com.insider.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Longest-processing-time-first scheduling. Work ordered longest first and handed to whichever
+ * worker frees up next (TestNG's thread pool behaves that way) keeps the makespan close to optimal;
+ * the same greedy rule assigns rows to shards when they are balanced by duration.
+ */
+public class LptScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(LptScheduler.class);
+
+    public static <T> List<T> longestFirst(List<T> items, ToLongFunction<T> estimate) {
+        List<T> ordered = new ArrayList<>(items);
+        ordered.sort(Comparator.comparingLong(estimate).reversed());
+        return ordered;
+    }
+
+    /**
+     * Distributes the items over {@code shardCount} shards, each item going to the currently least
+     * loaded shard, and returns the items of {@code shardIndex} longest first. Every agent computes
+     * the same assignment as long as it reads the same rows and history.
+     */
+    public static <T> List<T> shard(List<T> items, ToLongFunction<T> estimate, int shardIndex, int shardCount) {
+        List<T> ordered = longestFirst(items, estimate);
+        long[] loads = new long[shardCount];
+        List<T> assigned = new ArrayList<>();
+        for (T item : ordered) {
+            int target = 0;
+            for (int shard = 1; shard < shardCount; shard++) {
+                if (loads[shard] < loads[target]) {
+                    target = shard;
+                }
+            }
+            loads[target] += estimate.applyAsLong(item);
+            if (target == shardIndex) {
+                assigned.add(item);
+            }
+        }
+        logger.info("Balanced {} row(s) over {} shard(s) by expected duration. Shard {} takes {} row(s), ~{} s of {} s total.",
+                ordered.size(), shardCount, shardIndex, assigned.size(), loads[shardIndex] / 1000,
+                Arrays.stream(loads).sum() / 1000);
+        return assigned;
+    }
+}
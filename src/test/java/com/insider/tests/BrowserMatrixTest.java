@@ -0,0 +1,59 @@
+package com.insider.tests;
+
+import com.insider.enums.BrowserType;
+import com.insider.utils.BrowserMatrix;
+import com.insider.utils.ConfigReader;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Browser selection and row expansion of {@link BrowserMatrix}, configured through thread-local
+ * overrides so the run's own configuration is left alone.
+ */
+public class BrowserMatrixTest {
+
+    @AfterMethod(alwaysRun = true)
+    public void clearOverrides() {
+        ConfigReader.clearThreadOverrides();
+    }
+
+    @Test(description = "Matrix entries are parsed case-insensitively, without blanks or duplicates")
+    public void shouldParseMatrix() {
+        ConfigReader.setThreadOverride("browser.matrix", "chrome, Firefox,,CHROME");
+
+        Assert.assertEquals(BrowserMatrix.getBrowsers(), List.of(BrowserType.CHROME, BrowserType.FIREFOX));
+    }
+
+    @Test(description = "Without a matrix, only browser.type is used")
+    public void shouldFallBackToBrowserType() {
+        ConfigReader.setThreadOverride("browser.matrix", "");
+        ConfigReader.setThreadOverride("browser.type", "edge");
+
+        Assert.assertEquals(BrowserMatrix.getBrowsers(), List.of(BrowserType.EDGE));
+    }
+
+    @Test(description = "Unknown browsers are rejected", expectedExceptions = IllegalArgumentException.class)
+    public void shouldRejectUnknownBrowser() {
+        ConfigReader.setThreadOverride("browser.matrix", "CHROME,SAFARI");
+
+        BrowserMatrix.getBrowsers();
+    }
+
+    @Test(description = "Every row is repeated once per browser, with the browser appended as the last parameter")
+    public void shouldExpandRowsPerBrowser() {
+        ConfigReader.setThreadOverride("browser.matrix", "CHROME,FIREFOX");
+        List<Object[]> rows = List.of(new Object[]{"Istanbul", "QA"}, new Object[]{"London", "Sales"});
+
+        List<Object[]> expanded = new ArrayList<>();
+        BrowserMatrix.expand(rows.iterator()).forEachRemaining(expanded::add);
+
+        Assert.assertEquals(expanded.size(), 4);
+        Assert.assertEquals(expanded.get(0), new Object[]{"Istanbul", "QA", BrowserType.CHROME});
+        Assert.assertEquals(expanded.get(1), new Object[]{"Istanbul", "QA", BrowserType.FIREFOX});
+        Assert.assertEquals(expanded.get(3), new Object[]{"London", "Sales", BrowserType.FIREFOX});
+    }
+}
@@ -0,0 +1,49 @@
+package com.insider.tests;
+
+import com.insider.scheduling.DurationHistory;
+import com.insider.utils.ConfigReader;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Duration estimates of {@link DurationHistory}. The measurements are recorded under a test name no
+ * real history contains and removed again after the class, so a suite run with
+ * {@code schedule.enabled=true} does not save them to the history file.
+ */
+public class DurationHistoryTest {
+
+    private final String test = "DurationHistoryTest.sample" + System.nanoTime();
+
+    @BeforeClass
+    public void recordDurations() {
+        DurationHistory.record(test, new Object[]{"Istanbul, Turkiye", "Quality Assurance"}, 1000);
+        DurationHistory.record(test, new Object[]{"Istanbul, Turkiye", "Quality Assurance"}, 3000);
+        DurationHistory.record(test, new Object[]{"London, England", "Sales"}, 6000);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void removeDurations() {
+        DurationHistory.remove(test);
+    }
+
+    @Test(description = "A known row is estimated from its blended measurements")
+    public void shouldBlendMeasurementsOfKnownRow() {
+        Assert.assertEquals(DurationHistory.estimate(test, new Object[]{"Istanbul, Turkiye", "Quality Assurance"}), 2000);
+    }
+
+    @Test(description = "An unseen row takes the average of the rows sharing the most parameter values with it")
+    public void shouldEstimateUnseenRowFromMostSimilarRows() {
+        Assert.assertEquals(DurationHistory.estimate(test, new Object[]{"Istanbul, Turkiye", "Marketing"}), 2000);
+        Assert.assertEquals(DurationHistory.estimate(test, new Object[]{"Istanbul, Turkiye", "Sales"}), 4000);
+    }
+
+    @Test(description = "A method is estimated as the sum of its rows; unknown tests fall back to the default")
+    public void shouldEstimateMethodsAndUnknownTests() {
+        Assert.assertEquals(DurationHistory.estimateMethod(test), 8000);
+        long defaultMillis = ConfigReader.getIntProperty("schedule.default.millis", 60000);
+        Assert.assertEquals(DurationHistory.estimate(test + ".unknown", new Object[]{"Paris"}), defaultMillis);
+        Assert.assertEquals(DurationHistory.estimateMethod(test + ".unknown"), defaultMillis);
+    }
+}
@@ -0,0 +1,47 @@
+package com.insider.tests;
+
+import com.insider.enums.FailureCategory;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * Failure classification of {@link FailureCategory#classify(Throwable)}, including wrapped causes.
+ */
+public class FailureCategoryTest {
+
+    @DataProvider
+    public Object[][] failures() {
+        return new Object[][]{
+                {new StaleElementReferenceException("stale element reference"), FailureCategory.STALE_ELEMENT},
+                {new RuntimeException("Element became stale after multiple attempts", new StaleElementReferenceException("stale")),
+                        FailureCategory.STALE_ELEMENT},
+                {new TimeoutException("Expected condition failed"), FailureCategory.TIMEOUT},
+                {new ElementClickInterceptedException("element click intercepted"), FailureCategory.CLICK_INTERCEPTED},
+                {new NoSuchWindowException("no such window"), FailureCategory.NAVIGATION},
+                {new WebDriverException("unknown error: net::ERR_NAME_NOT_RESOLVED"), FailureCategory.NAVIGATION},
+                {new AssertionError("expected [QA] but found [Sales]"), FailureCategory.ASSERTION},
+                {new IllegalStateException("No browser session became available"), FailureCategory.OTHER},
+                {new WebDriverException("session not created"), FailureCategory.OTHER}
+        };
+    }
+
+    @Test(dataProvider = "failures", description = "Failures are classified by the first recognised exception in the cause chain")
+    public void shouldClassifyFailure(Throwable failure, FailureCategory expected) {
+        Assert.assertEquals(FailureCategory.classify(failure), expected);
+    }
+
+    @Test(description = "Only timing and page-state categories are transient")
+    public void shouldMarkOnlyTransientCategories() {
+        Assert.assertTrue(FailureCategory.STALE_ELEMENT.isTransient());
+        Assert.assertTrue(FailureCategory.NAVIGATION.isTransient());
+        Assert.assertFalse(FailureCategory.ASSERTION.isTransient());
+        Assert.assertFalse(FailureCategory.OTHER.isTransient());
+        Assert.assertEquals(FailureCategory.classify(null), FailureCategory.OTHER);
+    }
+}
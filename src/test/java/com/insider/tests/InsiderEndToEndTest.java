@@ -1,18 +1,30 @@
 package com.insider.tests;
 
 import com.insider.base.BaseTest;
+import com.insider.enums.BrowserType;
+import com.insider.enums.LinkVerificationMode;
+import com.insider.models.JobCard;
 import com.insider.pages.CareersPage;
 import com.insider.pages.HomePage;
 import com.insider.pages.OpenPositionsPage;
 import com.insider.pages.QualityAssurancePage;
 import com.insider.tests.dataproviders.QAJobsDataProvider;
 import com.insider.utils.ConfigReader;
+import com.insider.utils.LinkVerifier;
+import com.insider.utils.LocatorWaitResult;
+import org.openqa.selenium.By;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * End-to-End Test Case for Insider QA Jobs Verification
@@ -21,7 +33,8 @@ import java.util.List;
  * 2. Navigate to Careers via Company menu, verify Locations, Teams, Life at Insider
  * 3. Go to QA Jobs, filter by Istanbul, Turkey & Quality Assurance, check job list
  * 4. Validate all jobs: Position, Department, Location
- * 5. Click "View Role" and verify redirect to Lever
+ * 5. Click "View Role" and verify redirect to Lever (or, with view.role.verification=HTTP,
+ *    resolve every "View Role" link over HTTP and verify it ends on Lever)
  */
 
 public class InsiderEndToEndTest extends BaseTest {
@@ -30,11 +43,15 @@ public class InsiderEndToEndTest extends BaseTest {
     private static final String LOCATIONS_TEXT = "Locations";
     private static final String TEAMS_TEXT = "Teams";
     private static final String LIFE_AT_INSIDER_TEXT = "Life at Insider";
+    private static final LinkVerificationMode VIEW_ROLE_VERIFICATION =
+            LinkVerificationMode.valueOf(ConfigReader.getProperty("view.role.verification", "BROWSER").toUpperCase());
+    private static final String LEVER_HOST = ConfigReader.getProperty("view.role.expected.host", "lever.co");
+    private static final boolean STOP_ON_FIRST_MISMATCH = ConfigReader.getBooleanProperty("listing.scan.stop.on.first.mismatch", true);
 
     @Test(description = "Verify QA Jobs in Istanbul, Turkey and redirect to Lever",
             dataProvider = "qaJobsData", dataProviderClass = QAJobsDataProvider.class)
-    public void shouldVerifyQaJobsAndRedirectToLever(String targetLocation, String targetDepartment) {
-        logger.info("=== Starting the End-to-End QA Jobs Verification Test! ===");
+    public void shouldVerifyQaJobsAndRedirectToLever(String targetLocation, String targetDepartment, BrowserType browser) {
+        logger.info("=== Starting the End-to-End QA Jobs Verification Test on {}! ===", browser);
 
         // Step 1: Visit https://useinsider.com/ and check home page is opened
         logger.info("Step 1: Navigating to the Insider homepage and verifying its load.");
@@ -51,12 +68,18 @@ public class InsiderEndToEndTest extends BaseTest {
         logger.info("Step 2: Proceeding to the Careers page via the 'Company' menu and verifying key sections.");
         CareersPage careersPage = homePage.goToCareersPage();
 
-        Assert.assertTrue(careersPage.isSectionDisplayed(careersPage.locationsSection, LOCATIONS_TEXT),
-                "'Locations' section is NOT displayed on the Careers page.");
-        Assert.assertTrue(careersPage.isSectionDisplayed(careersPage.teamsSection, TEAMS_TEXT),
-                "'Teams' section is NOT displayed on the Careers page.");
-        Assert.assertTrue(careersPage.isSectionDisplayed(careersPage.lifeAtInsiderSection, LIFE_AT_INSIDER_TEXT),
-                "'Life at Insider' section is NOT displayed on the Careers page.");
+        Map<String, By> sections = new LinkedHashMap<>();
+        sections.put(LOCATIONS_TEXT, careersPage.locationsSection);
+        sections.put(TEAMS_TEXT, careersPage.teamsSection);
+        sections.put(LIFE_AT_INSIDER_TEXT, careersPage.lifeAtInsiderSection);
+        Map<String, LocatorWaitResult> sectionStatus = careersPage.getSectionsDisplayStatus(sections);
+
+        Assert.assertTrue(sectionStatus.get(LOCATIONS_TEXT).isVisible(),
+                "'Locations' section is NOT displayed on the Careers page. Status: " + sectionStatus.get(LOCATIONS_TEXT));
+        Assert.assertTrue(sectionStatus.get(TEAMS_TEXT).isVisible(),
+                "'Teams' section is NOT displayed on the Careers page. Status: " + sectionStatus.get(TEAMS_TEXT));
+        Assert.assertTrue(sectionStatus.get(LIFE_AT_INSIDER_TEXT).isVisible(),
+                "'Life at Insider' section is NOT displayed on the Careers page. Status: " + sectionStatus.get(LIFE_AT_INSIDER_TEXT));
         logger.info("Step 2 PASSED: All expected sections (Locations, Teams, Life at Insider) are present and visible on the Careers page.");
 
         // Step 3: Go to QA Jobs, click “See all QA jobs”, filter, check job list
@@ -70,36 +93,58 @@ public class InsiderEndToEndTest extends BaseTest {
 
         // Step 4: Check all jobs have correct Position, Department, Location
         logger.info("Step 4: Beginning validation of each displayed job's Position, Department, and Location details.");
-        List<String> positions = openPositionsPage.getJobPositions();
-        List<String> departments = openPositionsPage.getJobDepartments();
-        List<String> locations = openPositionsPage.getJobLocations();
-
-        Assert.assertFalse(positions.isEmpty(), "The list of job positions is unexpectedly empty. No positions found to validate.");
-        Assert.assertFalse(departments.isEmpty(), "The list of job departments is unexpectedly empty. No departments found to validate.");
-        Assert.assertFalse(locations.isEmpty(), "The list of job locations is unexpectedly empty. No locations found to validate.");
-        logger.debug("Found {} job entries for detailed validation.", positions.size());
-
-        for (int i = 0; i < positions.size(); i++) {
-            String position = positions.get(i);
-            String department = departments.get(i);
-            String location = locations.get(i);
-            logger.debug("Validating job #{}: Position='{}', Department='{}', Location='{}'", (i + 1), position, department, location);
-
-            Assert.assertTrue(position.contains("Quality Assurance"),
-                    "Validation FAILED for Job #" + (i + 1) + ": Position title does NOT contain 'Quality Assurance'. Found: '" + position + "'");
-            Assert.assertEquals(department, "Quality Assurance",
-                    "Validation FAILED for Job #" + (i + 1) + ": Department mismatch. Expected 'Quality Assurance', Found: '" + department + "'");
-            Assert.assertEquals(location, "Istanbul, Turkiye",
-                    "Validation FAILED for Job #" + (i + 1) + ": Location mismatch. Expected 'Istanbul, Turkiye', Found: '" + location + "'");
-            logger.debug("Job #{} details validated successfully.", (i + 1));
+        List<String> mismatches = new ArrayList<>();
+        int scanned = 0;
+        try (Stream<JobCard> jobCards = openPositionsPage.scanJobCards()) {
+            Iterator<JobCard> iterator = jobCards.iterator();
+            while (iterator.hasNext()) {
+                JobCard jobCard = iterator.next();
+                scanned++;
+                String position = jobCard.title();
+                String department = jobCard.department();
+                String location = jobCard.location();
+                logger.debug("Validating job #{}: Position='{}', Department='{}', Location='{}'", scanned, position, department, location);
+
+                if (position == null || !position.contains("Quality Assurance")) {
+                    mismatches.add("Job #" + scanned + ": Position title does NOT contain 'Quality Assurance'. Found: '" + position + "'");
+                }
+                if (!"Quality Assurance".equals(department)) {
+                    mismatches.add("Job #" + scanned + ": Department mismatch. Expected 'Quality Assurance', Found: '" + department + "'");
+                }
+                if (!"Istanbul, Turkiye".equals(location)) {
+                    mismatches.add("Job #" + scanned + ": Location mismatch. Expected 'Istanbul, Turkiye', Found: '" + location + "'");
+                }
+                if (!mismatches.isEmpty() && STOP_ON_FIRST_MISMATCH) {
+                    logger.debug("Stopping the job scan at the first mismatch (job #{}).", scanned);
+                    break;
+                }
+            }
         }
+
+        Assert.assertTrue(scanned > 0, "The list of job cards is unexpectedly empty. No positions found to validate.");
+        Assert.assertTrue(mismatches.isEmpty(), "Validation FAILED for " + mismatches.size() + " field(s) across "
+                + scanned + " scanned job(s):\n" + String.join("\n", mismatches));
+        logger.debug("Validated {} job entries.", scanned);
         logger.info("Step 4 PASSED: All displayed jobs correctly match the expected Position, Department, and Location criteria.");
 
         // Step 5: Click “View Role” and check redirect to Lever
-        logger.info("Step 5: Clicking 'View Role' for the first job and verifying redirection to the application platform (Lever).");
-        String leverUrl = openPositionsPage.clickViewRoleAndGetUrl();
-        Assert.assertTrue(leverUrl.contains("lever.co"), "Redirection failed. Expected to land on a 'lever.co' URL, but found: " + leverUrl);
-        logger.info("Step 5 PASSED: Successfully redirected to the Lever application form at: {}", leverUrl);
+        if (VIEW_ROLE_VERIFICATION == LinkVerificationMode.HTTP) {
+            logger.info("Step 5: Resolving every 'View Role' link over HTTP and verifying it redirects to Lever.");
+            List<String> viewRoleUrls = openPositionsPage.getViewRoleUrls();
+            Assert.assertFalse(viewRoleUrls.isEmpty(), "No 'View Role' links were found on the job cards.");
+            List<String> failedLinks = LinkVerifier.resolveAll(viewRoleUrls).stream()
+                    .filter(check -> !check.isOk() || !check.endsOnHost(LEVER_HOST))
+                    .map(check -> check.url() + " -> " + (check.error() != null ? check.error() : check.finalUrl() + " (HTTP " + check.status() + ")"))
+                    .collect(Collectors.toList());
+            Assert.assertTrue(failedLinks.isEmpty(), "Redirection failed for " + failedLinks.size() + " of " + viewRoleUrls.size()
+                    + " 'View Role' link(s). Expected to land on '" + LEVER_HOST + "':\n" + String.join("\n", failedLinks));
+            logger.info("Step 5 PASSED: All {} 'View Role' links redirect to Lever.", viewRoleUrls.size());
+        } else {
+            logger.info("Step 5: Clicking 'View Role' for the first job and verifying redirection to the application platform (Lever).");
+            String leverUrl = openPositionsPage.clickViewRoleAndGetUrl();
+            Assert.assertTrue(leverUrl.contains(LEVER_HOST), "Redirection failed. Expected to land on a '" + LEVER_HOST + "' URL, but found: " + leverUrl);
+            logger.info("Step 5 PASSED: Successfully redirected to the Lever application form at: {}", leverUrl);
+        }
 
         logger.info("=== End-to-End QA Jobs Verification Test COMPLETED SUCCESSFULLY! All steps passed. ===");
     }
@@ -0,0 +1,34 @@
+package com.insider.tests;
+
+import com.insider.scheduling.LptScheduler;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Longest-first ordering and greedy shard assignment of {@link LptScheduler}, with each item's
+ * value as its expected duration.
+ */
+public class LptSchedulerTest {
+
+    @Test(description = "Items are ordered by expected duration, longest first")
+    public void shouldOrderLongestFirst() {
+        Assert.assertEquals(LptScheduler.longestFirst(List.of(3L, 8L, 1L, 5L), Long::longValue), List.of(8L, 5L, 3L, 1L));
+    }
+
+    @Test(description = "Every item goes to the least loaded shard, and the shards together hold every item once")
+    public void shouldBalanceShardsByExpectedDuration() {
+        List<Long> items = List.of(4L, 8L, 6L, 5L, 7L);
+
+        List<Long> first = LptScheduler.shard(items, Long::longValue, 0, 2);
+        List<Long> second = LptScheduler.shard(items, Long::longValue, 1, 2);
+
+        Assert.assertEquals(first, List.of(8L, 5L, 4L));
+        Assert.assertEquals(second, List.of(7L, 6L));
+        List<Long> all = new ArrayList<>(first);
+        all.addAll(second);
+        Assert.assertEqualsNoOrder(all.toArray(), items.toArray());
+    }
+}
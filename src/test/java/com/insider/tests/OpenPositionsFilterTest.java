@@ -0,0 +1,86 @@
+package com.insider.tests;
+
+import com.insider.base.BaseTest;
+import com.insider.enums.BrowserType;
+import com.insider.enums.EntryMode;
+import com.insider.models.JobCard;
+import com.insider.pages.HomePage;
+import com.insider.pages.OpenPositionsPage;
+import com.insider.tests.dataproviders.QAJobsDataProvider;
+import com.insider.utils.ConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Data-driven filter checks on the Open Positions page. The page is reached once per browser
+ * session (through the UI journey or a deep link, see {@code open.positions.entry.mode}); every
+ * further location/department row resets and re-applies the filters on the same page.
+ */
+public class OpenPositionsFilterTest extends BaseTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenPositionsFilterTest.class);
+
+    @Override
+    protected boolean opensHomePageOnSetUp() {
+        return false;
+    }
+
+    @Override
+    protected boolean keepsSessionStateBetweenTests() {
+        return true;
+    }
+
+    @Test(description = "Verify job listings for each location and department filter combination",
+            dataProvider = "qaJobsData", dataProviderClass = QAJobsDataProvider.class)
+    public void shouldListOnlyJobsMatchingFilters(String targetLocation, String targetDepartment, BrowserType browser) {
+        logger.info("=== Starting filter verification on {} for Location: '{}', Department: '{}' ===", browser, targetLocation, targetDepartment);
+
+        OpenPositionsPage openPositionsPage = new OpenPositionsPage();
+        if (openPositionsPage.isOpen()) {
+            logger.info("Open positions page is already loaded in this session. Re-applying filters in place.");
+            openPositionsPage.resetFilters();
+            openPositionsPage.applyFilters(targetLocation, targetDepartment);
+        } else {
+            openPositionsPage = openOpenPositionsPage();
+            openPositionsPage.filterJobs(targetLocation, targetDepartment);
+        }
+        Assert.assertTrue(openPositionsPage.areJobsDisplayed(),
+                "No jobs were found after filtering by '" + targetLocation + "' and '" + targetDepartment + "'.");
+
+        List<JobCard> jobCards = openPositionsPage.getJobCards();
+        Assert.assertFalse(jobCards.isEmpty(), "The list of job cards is unexpectedly empty. No positions found to validate.");
+        for (int i = 0; i < jobCards.size(); i++) {
+            JobCard jobCard = jobCards.get(i);
+            Assert.assertEquals(jobCard.department(), targetDepartment,
+                    "Validation FAILED for Job #" + (i + 1) + ": Department mismatch. Expected '" + targetDepartment + "', Found: '" + jobCard.department() + "'");
+            Assert.assertEquals(jobCard.location(), targetLocation,
+                    "Validation FAILED for Job #" + (i + 1) + ": Location mismatch. Expected '" + targetLocation + "', Found: '" + jobCard.location() + "'");
+        }
+        logger.info("=== Filter verification PASSED: {} job(s) match '{}' / '{}' ===", jobCards.size(), targetLocation, targetDepartment);
+    }
+
+    private OpenPositionsPage openOpenPositionsPage() {
+        OpenPositionsPage openPositionsPage = new OpenPositionsPage();
+        HomePage homePage = new HomePage();
+        if (entryMode() == EntryMode.DEEP_LINK) {
+            openPositionsPage.open();
+            homePage.closeInitialPopups();
+        } else {
+            openHomePage();
+            homePage.closeInitialPopups();
+            homePage.goToCareersPage().goToQaJobsPage().clickSeeAllQaJobs();
+        }
+        return openPositionsPage;
+    }
+
+    /**
+     * Read per session rather than once per class, so a suite parameter can select the mode.
+     */
+    private static EntryMode entryMode() {
+        return EntryMode.valueOf(ConfigReader.getProperty("open.positions.entry.mode", "UI").toUpperCase());
+    }
+}
@@ -0,0 +1,47 @@
+package com.insider.tests;
+
+import com.insider.utils.RowSelection;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Row ranges and shards of {@link RowSelection}.
+ */
+public class RowSelectionTest {
+
+    @Test(description = "A shard takes every shard-count-th row of the range, starting at its index")
+    public void shouldSelectShardWithinRange() {
+        RowSelection selection = new RowSelection(2, 9, 1, 3);
+
+        Assert.assertEquals(selectedRows(selection, 12), List.of(3, 6));
+        Assert.assertFalse(selection.isPastEnd(8));
+        Assert.assertTrue(selection.isPastEnd(9));
+    }
+
+    @Test(description = "An open range runs to the end of the file, and withoutSharding keeps only the range")
+    public void shouldSelectOpenRangeWithoutSharding() {
+        RowSelection selection = new RowSelection(1, -1, 0, 2);
+
+        Assert.assertEquals(selectedRows(selection, 6), List.of(1, 3, 5));
+        Assert.assertFalse(selection.isPastEnd(Integer.MAX_VALUE));
+        Assert.assertEquals(selectedRows(selection.withoutSharding(), 4), List.of(1, 2, 3));
+    }
+
+    @Test(description = "Inverted ranges are rejected", expectedExceptions = IllegalArgumentException.class)
+    public void shouldRejectInvertedRange() {
+        new RowSelection(5, 2, 0, 1);
+    }
+
+    @Test(description = "Shard indexes outside the shard count are rejected", expectedExceptions = IllegalArgumentException.class)
+    public void shouldRejectShardOutsideCount() {
+        new RowSelection(0, -1, 2, 2);
+    }
+
+    private static List<Integer> selectedRows(RowSelection selection, int rows) {
+        return IntStream.range(0, rows).filter(selection::includes).boxed().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,85 @@
+package com.insider.tests;
+
+import com.insider.utils.RowSelection;
+import com.insider.utils.TestDataStream;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parsing and row selection of {@link TestDataStream} for every supported format, on temporary
+ * files holding the same four rows.
+ */
+public class TestDataStreamTest {
+
+    @DataProvider
+    public Object[][] formats() {
+        return new Object[][]{
+                {".json", "[\n"
+                        + "  {\"location\": \"Istanbul, Turkiye\", \"department\": \"Quality Assurance\"},\n"
+                        + "  {\"location\": \"London, England\", \"department\": \"Sales\"},\n"
+                        + "  {\"location\": \"Paris, France\", \"department\": \"Quality Assurance\"},\n"
+                        + "  {\"location\": \"Berlin, Germany\", \"department\": \"Marketing\"}\n"
+                        + "]\n"},
+                {".jsonl", "{\"location\": \"Istanbul, Turkiye\", \"department\": \"Quality Assurance\"}\n"
+                        + "{\"location\": \"London, England\", \"department\": \"Sales\"}\n"
+                        + "\n"
+                        + "{\"location\": \"Paris, France\", \"department\": \"Quality Assurance\"}\n"
+                        + "{\"location\": \"Berlin, Germany\", \"department\": \"Marketing\"}\n"},
+                {".csv", "location,department\n"
+                        + "\"Istanbul, Turkiye\",Quality Assurance\n"
+                        + "\"London, England\",Sales\n"
+                        + "\"Paris, France\",\"Quality Assurance\"\n"
+                        + "\"Berlin, Germany\",Marketing\n"}
+        };
+    }
+
+    @Test(dataProvider = "formats", description = "All rows are read as string maps")
+    public void shouldReadAllRows(String extension, String content) throws IOException {
+        List<Map<String, String>> rows = read(extension, content, new RowSelection(0, -1, 0, 1));
+
+        Assert.assertEquals(rows.size(), 4);
+        Assert.assertEquals(rows.get(0).get("location"), "Istanbul, Turkiye");
+        Assert.assertEquals(rows.get(3).get("department"), "Marketing");
+    }
+
+    @Test(dataProvider = "formats", description = "Only the rows of the selected range and shard are returned")
+    public void shouldReturnOnlySelectedRows(String extension, String content) throws IOException {
+        List<Map<String, String>> shard = read(extension, content, new RowSelection(0, -1, 1, 2));
+        List<Map<String, String>> range = read(extension, content, new RowSelection(1, 3, 0, 1));
+
+        Assert.assertEquals(locations(shard), List.of("London, England", "Berlin, Germany"));
+        Assert.assertEquals(locations(range), List.of("London, England", "Paris, France"));
+    }
+
+    @Test(description = "Unsupported file extensions are rejected", expectedExceptions = IllegalArgumentException.class)
+    public void shouldRejectUnsupportedFormat() {
+        TestDataStream.open("rows.xml", new RowSelection(0, -1, 0, 1));
+    }
+
+    private static List<Map<String, String>> read(String extension, String content, RowSelection selection) throws IOException {
+        Path file = Files.createTempFile("test-data", extension);
+        try {
+            Files.writeString(file, content, StandardCharsets.UTF_8);
+            List<Map<String, String>> rows = new ArrayList<>();
+            Iterator<Map<String, String>> iterator = TestDataStream.open(file.toString(), selection);
+            iterator.forEachRemaining(rows::add);
+            return rows;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<String> locations(List<Map<String, String>> rows) {
+        return rows.stream().map(row -> row.get("location")).toList();
+    }
+}
@@ -0,0 +1,94 @@
+package com.insider.tests;
+
+import com.insider.utils.LinkCheckResult;
+import com.insider.utils.LinkVerifier;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Checks the HTTP 'View Role' verification against a local stand-in for the careers site and
+ * Lever: job links on 127.0.0.1 redirect to "Lever" on localhost. No browser is needed.
+ */
+public class ViewRoleLinkVerificationTest {
+
+    private HttpServer server;
+    private String careersBase;
+
+    @BeforeClass
+    public void startStandInServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        int port = server.getAddress().getPort();
+        String leverBase = "http://localhost:" + port;
+        careersBase = "http://127.0.0.1:" + port;
+        server.createContext("/jobs/", exchange -> redirect(exchange, leverBase + "/lever/" + lastSegment(exchange)));
+        server.createContext("/lever/", exchange -> {
+            if ("HEAD".equals(exchange.getRequestMethod()) && lastSegment(exchange).startsWith("no-head")) {
+                respond(exchange, 405);
+            } else {
+                respond(exchange, 200);
+            }
+        });
+        server.createContext("/elsewhere/", exchange -> respond(exchange, 200));
+        server.start();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStandInServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test(description = "Every View Role link is resolved concurrently to its final Lever URL")
+    public void shouldResolveRedirectsToFinalHost() {
+        List<LinkCheckResult> results = LinkVerifier.resolveAll(List.of(
+                careersBase + "/jobs/1", careersBase + "/jobs/2", careersBase + "/jobs/no-head-3"));
+
+        Assert.assertEquals(results.size(), 3);
+        for (LinkCheckResult result : results) {
+            Assert.assertTrue(result.isOk(), "Link should resolve: " + result);
+            Assert.assertTrue(result.endsOnHost("localhost"), "Link should end on the stand-in Lever host: " + result);
+            Assert.assertTrue(result.finalUrl().contains("/lever/"), "Unexpected final URL: " + result);
+        }
+        Assert.assertEquals(results.get(0).method(), "HEAD");
+        Assert.assertEquals(results.get(2).method(), "GET", "HEAD rejected with 405 should fall back to GET");
+    }
+
+    @Test(description = "Links that end on another host, fail or are not HTTP URLs are reported")
+    public void shouldReportLinksThatDoNotReachLever() {
+        List<LinkCheckResult> results = LinkVerifier.resolveAll(Arrays.asList(
+                careersBase + "/elsewhere/1", careersBase + "/missing", "mailto:jobs@example.com", null));
+
+        Assert.assertTrue(results.get(0).isOk());
+        Assert.assertFalse(results.get(0).endsOnHost("localhost"), "Link stays on 127.0.0.1: " + results.get(0));
+        Assert.assertEquals(results.get(1).status(), 404);
+        Assert.assertFalse(results.get(1).isOk());
+        Assert.assertNotNull(results.get(2).error());
+        Assert.assertNotNull(results.get(3).error());
+    }
+
+    private static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().add("Location", location);
+        respond(exchange, 302);
+    }
+
+    private static void respond(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    private static String lastSegment(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+}
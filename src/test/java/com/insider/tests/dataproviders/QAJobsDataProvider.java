@@ -1,31 +1,98 @@
 package com.insider.tests.dataproviders;
 
-import com.insider.utils.JsonDataReader;
+import com.insider.enums.BrowserType;
+import com.insider.retry.FlakeTracker;
+import com.insider.scheduling.DurationHistory;
+import com.insider.scheduling.LptScheduler;
+import com.insider.utils.BrowserMatrix;
+import com.insider.utils.ConfigReader;
+import com.insider.utils.RowSelection;
+import com.insider.utils.TestDataStream;
 import org.testng.annotations.DataProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 public class QAJobsDataProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(QAJobsDataProvider.class);
     private static final String DATA_FILE_PATH = "src/test/resources/qaJobsData.json";
 
+    /**
+     * Streams rows from {@code data.file} (JSON, JSON Lines or CSV) as the tests consume them.
+     * {@code data.rows.from}/{@code data.rows.to} and {@code data.shard.index}/{@code data.shard.count}
+     * select the slice of the file this run executes. Every row is repeated for each browser of
+     * {@code browser.matrix} with the {@code BrowserType} as last parameter.
+     * <p>
+     * With {@code schedule.enabled=true} the selected rows are buffered and handed out longest first
+     * according to the duration history; {@code data.shard.strategy=DURATION} additionally balances
+     * the shards by expected duration instead of by row index.
+     * <p>
+     * With {@code retry.rerun.failed.only=true} only the rows that failed in the previous run
+     * (the rerun file written by the retry listener) are returned.
+     */
     @DataProvider(name = "qaJobsData")
-    public static Object[][] getQaJobsData() {
-        logger.info("Fetching QA jobs data from JSON to provide to test method.");
-        List<Map<String, String>> data = JsonDataReader.readJsonData(DATA_FILE_PATH);
-
-        Object[][] result = new Object[data.size()][2];
-        for (int i = 0; i < data.size(); i++) {
-            result[i][0] = data.get(i).get("location");
-            result[i][1] = data.get(i).get("department");
-            logger.debug("Prepared data row {}: location='{}', department='{}'", i, result[i][0], result[i][1]);
+    public static Iterator<Object[]> getQaJobsData(Method testMethod) {
+        String test = testMethod.getDeclaringClass().getSimpleName() + "." + testMethod.getName();
+        if (FlakeTracker.isRerunFailedOnly()) {
+            List<Object[]> failedRows = FlakeTracker.failedParameters(test).stream()
+                    .map(QAJobsDataProvider::toRerunParameters)
+                    .collect(Collectors.toList());
+            logger.info("Rerunning {} failed row(s) of {} from the previous run.", failedRows.size(), test);
+            return failedRows.iterator();
         }
+        String dataFile = ConfigReader.getProperty("data.file", DATA_FILE_PATH);
+        logger.info("Streaming QA jobs data from {} to the test method.", dataFile);
+        if (!DurationHistory.isEnabled()) {
+            return BrowserMatrix.expand(toParameters(TestDataStream.open(dataFile)));
+        }
+
+        RowSelection selection = RowSelection.fromConfig();
+        boolean balanceShards = "DURATION".equalsIgnoreCase(ConfigReader.getProperty("data.shard.strategy", "MODULO"))
+                && selection.shardCount() > 1;
+        List<Object[]> rows = new ArrayList<>();
+        BrowserMatrix.expand(toParameters(TestDataStream.open(dataFile, balanceShards ? selection.withoutSharding() : selection)))
+                .forEachRemaining(rows::add);
+
+        List<Object[]> scheduled = balanceShards
+                ? LptScheduler.shard(rows, row -> DurationHistory.estimate(test, row), selection.shardIndex(), selection.shardCount())
+                : LptScheduler.longestFirst(rows, row -> DurationHistory.estimate(test, row));
+        logger.info("DataProvider scheduled {} row(s) longest first for {}.", scheduled.size(), test);
+        return scheduled.iterator();
+    }
+
+    /**
+     * Rebuilds a row recorded in the rerun file: location, department and, for browser-matrix
+     * runs, the browser.
+     */
+    private static Object[] toRerunParameters(List<String> recorded) {
+        Object[] parameters = recorded.toArray();
+        if (parameters.length > 2) {
+            parameters[2] = BrowserType.valueOf(recorded.get(2));
+        }
+        return parameters;
+    }
+
+    private static Iterator<Object[]> toParameters(Iterator<Map<String, String>> rows) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
 
-        logger.info("DataProvider prepared {} rows for QA jobs test.", result.length);
-        return result;
+            @Override
+            public Object[] next() {
+                Map<String, String> row = rows.next();
+                Object[] parameters = {row.get("location"), row.get("department")};
+                logger.debug("Prepared data row: location='{}', department='{}'", parameters[0], parameters[1]);
+                return parameters;
+            }
+        };
     }
 }
@@ -0,0 +1,71 @@
+package com.insider.utils;
+
+import com.insider.enums.BrowserType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Browsers a suite runs on: every entry of {@code browser.matrix} (e.g. {@code CHROME,FIREFOX,EDGE}),
+ * or only {@code browser.type} when no matrix is configured. Data rows are expanded with one
+ * {@link BrowserType} parameter per browser, so each row × browser combination is a separate,
+ * independently scheduled test invocation.
+ */
+public class BrowserMatrix {
+
+    public static List<BrowserType> getBrowsers() {
+        String matrix = ConfigReader.getProperty("browser.matrix", "");
+        if (matrix.isEmpty()) {
+            return List.of(BrowserType.valueOf(ConfigReader.getProperty("browser.type").toUpperCase()));
+        }
+        List<BrowserType> browsers = new ArrayList<>();
+        for (String name : matrix.split(",")) {
+            if (name.isBlank()) {
+                continue;
+            }
+            try {
+                BrowserType browser = BrowserType.valueOf(name.trim().toUpperCase());
+                if (!browsers.contains(browser)) {
+                    browsers.add(browser);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown browser '" + name.trim() + "' in browser.matrix. Supported values are "
+                        + Arrays.toString(BrowserType.values()) + ".", e);
+            }
+        }
+        return browsers;
+    }
+
+    /**
+     * Appends a {@link BrowserType} to every row, repeating each row once per matrix browser.
+     */
+    public static Iterator<Object[]> expand(Iterator<Object[]> rows) {
+        List<BrowserType> browsers = getBrowsers();
+        return new Iterator<>() {
+            private Object[] row;
+            private int browserIndex = browsers.size();
+
+            @Override
+            public boolean hasNext() {
+                return browserIndex < browsers.size() || rows.hasNext();
+            }
+
+            @Override
+            public Object[] next() {
+                if (browserIndex >= browsers.size()) {
+                    if (!rows.hasNext()) {
+                        throw new NoSuchElementException("No more data rows to expand.");
+                    }
+                    row = rows.next();
+                    browserIndex = 0;
+                }
+                Object[] expanded = Arrays.copyOf(row, row.length + 1);
+                expanded[row.length] = browsers.get(browserIndex++);
+                return expanded;
+            }
+        };
+    }
+}
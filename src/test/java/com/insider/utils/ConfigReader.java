@@ -5,13 +5,18 @@ import org.slf4j.LoggerFactory;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ConfigReader {
 
     private static final Logger logger = LoggerFactory.getLogger(ConfigReader.class);
     private static final Properties properties = new Properties();
     private static final String CONFIG_FILE_PATH = "src/test/resources/config.properties";
+    private static final Map<String, String> runtimeOverrides = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<String, String>> threadOverrides = ThreadLocal.withInitial(HashMap::new);
 
     static {
         try {
@@ -25,19 +30,84 @@ public class ConfigReader {
         }
     }
     public static String getProperty(String key) {
-        String value = properties.getProperty(key);
+        String value = lookup(key);
         if (value == null) {
             logger.warn("Configuration property '{}' was not found in config.properties. Please check your configuration.", key);
         }
         return value;
     }
+
+    public static String getProperty(String key, String defaultValue) {
+        String value = lookup(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
     public static int getIntProperty(String key) {
         String value = getProperty(key);
         if (value == null) {
             throw new IllegalArgumentException("Mandatory integer property '" + key + "' is missing from config.properties.");
         }
+        return parseInt(key, value);
+    }
+
+    public static int getIntProperty(String key, int defaultValue) {
+        String value = getProperty(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        return parseInt(key, value);
+    }
+
+    public static boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = getProperty(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Overrides a property until {@link #clearOverride(String)} (e.g. a TestNG suite parameter).
+     * System properties still take precedence.
+     */
+    public static void setOverride(String key, String value) {
+        runtimeOverrides.put(key, value);
+        logger.info("Configuration property '{}' overridden at runtime with '{}'.", key, value);
+    }
+
+    public static void clearOverride(String key) {
+        if (runtimeOverrides.remove(key) != null) {
+            logger.info("Runtime override of configuration property '{}' removed.", key);
+        }
+    }
+
+    /**
+     * Overrides a property for the current thread only, e.g. the browser of one browser-matrix
+     * invocation. Thread overrides take precedence over everything else until
+     * {@link #clearThreadOverrides()} is called. Values read once into static constants are not
+     * affected.
+     */
+    public static void setThreadOverride(String key, String value) {
+        threadOverrides.get().put(key, value);
+        logger.debug("Configuration property '{}' overridden for thread '{}' with '{}'.", key, Thread.currentThread().getName(), value);
+    }
+
+    public static void clearThreadOverrides() {
+        threadOverrides.remove();
+    }
+
+    private static String lookup(String key) {
+        String value = threadOverrides.get().get(key);
+        if (value != null) {
+            return value;
+        }
+        value = System.getProperty(key);
+        if (value == null) {
+            value = runtimeOverrides.get(key);
+        }
+        return value == null ? properties.getProperty(key) : value;
+    }
+
+    private static int parseInt(String key, String value) {
         try {
-            return Integer.parseInt(value);
+            return Integer.parseInt(value.trim());
         } catch (NumberFormatException e) {
             throw new IllegalArgumentException("Property '" + key + "' must be an integer, but found: '" + value + "'. Please ensure the value is a valid number.", e);
         }
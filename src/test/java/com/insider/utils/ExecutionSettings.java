@@ -0,0 +1,25 @@
+package com.insider.utils;
+
+public class ExecutionSettings {
+
+    public static boolean isParallelEnabled() {
+        return ConfigReader.getBooleanProperty("parallel.enabled", false);
+    }
+
+    public static int getThreadCount() {
+        return resolveThreadCount("parallel.thread.count");
+    }
+
+    public static int getDataProviderThreadCount() {
+        return resolveThreadCount("parallel.dataprovider.thread.count");
+    }
+
+    public static int getMaxConcurrentSessions() {
+        return isParallelEnabled() ? Math.max(getThreadCount(), getDataProviderThreadCount()) : 1;
+    }
+
+    private static int resolveThreadCount(String key) {
+        int threads = ConfigReader.getIntProperty(key, 0);
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
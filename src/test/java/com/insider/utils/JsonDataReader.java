@@ -13,13 +13,14 @@ import java.util.Map;
 public class JsonDataReader {
 
     private static final Logger logger = LoggerFactory.getLogger(JsonDataReader.class);
+    static final ObjectMapper MAPPER = new ObjectMapper();
+    static final TypeReference<Map<String, String>> ROW_TYPE = new TypeReference<>() {};
 
     public static List<Map<String, String>> readJsonData(String filePath) {
         logger.info("Attempting to read JSON test data from file: {}", filePath);
-        ObjectMapper mapper = new ObjectMapper();
         try {
             File file = new File(filePath);
-            List<Map<String, String>> data = mapper.readValue(file, new TypeReference<List<Map<String, String>>>() {});
+            List<Map<String, String>> data = MAPPER.readValue(file, new TypeReference<List<Map<String, String>>>() {});
             logger.info("Successfully read {} entries from JSON file: {}", data.size(), filePath);
             return data;
         } catch (IOException e) {
@@ -0,0 +1,22 @@
+package com.insider.utils;
+
+import java.net.URI;
+
+public record LinkCheckResult(String url, String finalUrl, int status, String method, long elapsedMillis, String error) {
+
+    public boolean isOk() {
+        return error == null && status >= 200 && status < 400;
+    }
+
+    public String finalHost() {
+        return finalUrl == null ? null : URI.create(finalUrl).getHost();
+    }
+
+    /**
+     * True when the link ended on {@code host} or one of its subdomains (e.g. jobs.lever.co for lever.co).
+     */
+    public boolean endsOnHost(String host) {
+        String finalHost = finalHost();
+        return finalHost != null && (finalHost.equalsIgnoreCase(host) || finalHost.toLowerCase().endsWith("." + host.toLowerCase()));
+    }
+}
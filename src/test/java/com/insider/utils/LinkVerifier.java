@@ -0,0 +1,105 @@
+package com.insider.utils;
+
+import com.insider.metrics.StepMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves links over HTTP without a browser: every URL is requested with HEAD (GET when the server
+ * rejects HEAD), redirects are followed, and the final URL and status are returned. All links are
+ * checked concurrently, with at most {@code link.check.max.concurrency} requests in flight.
+ */
+public class LinkVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(LinkVerifier.class);
+    private static final int MAX_CONCURRENCY = Math.max(1, ConfigReader.getIntProperty("link.check.max.concurrency", 8));
+    private static final Duration TIMEOUT = Duration.ofMillis(ConfigReader.getIntProperty("link.check.timeout.millis", 10000));
+    private static final String USER_AGENT = ConfigReader.getProperty("link.check.user.agent", "Mozilla/5.0 (compatible; insider-qa-link-check)");
+    private static final Semaphore inFlight = new Semaphore(MAX_CONCURRENCY);
+    private static final ExecutorService executor = Executors.newFixedThreadPool(MAX_CONCURRENCY, runnable -> {
+        Thread thread = new Thread(runnable, "link-check");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final HttpClient client = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .connectTimeout(TIMEOUT)
+            .executor(executor)
+            .build();
+
+    public static List<LinkCheckResult> resolveAll(List<String> urls) {
+        logger.info("STEP: Resolve {} link(s) over HTTP", urls.size());
+        long start = System.nanoTime();
+        List<CompletableFuture<LinkCheckResult>> checks = urls.stream()
+                .map(LinkVerifier::resolveAsync)
+                .collect(Collectors.toList());
+        List<LinkCheckResult> results = checks.stream().map(CompletableFuture::join).collect(Collectors.toList());
+        StepMetrics.record("http.resolve", urls.size() + " link(s)", start);
+        results.forEach(result -> logger.debug("{} {} -> {} ({}, {} ms){}", result.method(), result.url(), result.finalUrl(),
+                result.status(), result.elapsedMillis(), result.error() == null ? "" : " error: " + result.error()));
+        return results;
+    }
+
+    /**
+     * Waits for a free slot on the calling thread, so the number of open requests stays bounded
+     * however many links are submitted.
+     */
+    private static CompletableFuture<LinkCheckResult> resolveAsync(String url) {
+        long start = System.nanoTime();
+        URI uri;
+        try {
+            uri = URI.create(url);
+            if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())) {
+                throw new IllegalArgumentException("not an absolute http(s) URL");
+            }
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return CompletableFuture.completedFuture(new LinkCheckResult(url, null, 0, null, 0, "Invalid URL: " + e.getMessage()));
+        }
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to check link: " + url, e);
+        }
+        return send(uri, "HEAD")
+                .thenCompose(response -> response.statusCode() >= 400 ? send(uri, "GET") : CompletableFuture.completedFuture(response))
+                .handle((response, error) -> error == null
+                        ? new LinkCheckResult(url, response.uri().toString(), response.statusCode(), response.request().method(), elapsedMillis(start), null)
+                        : new LinkCheckResult(url, null, 0, null, elapsedMillis(start), rootMessage(error)))
+                .whenComplete((result, error) -> inFlight.release());
+    }
+
+    private static CompletableFuture<HttpResponse<Void>> send(URI uri, String method) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .timeout(TIMEOUT)
+                .header("User-Agent", USER_AGENT)
+                .build();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable root = error;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getClass().getSimpleName() + (root.getMessage() == null ? "" : ": " + root.getMessage());
+    }
+}
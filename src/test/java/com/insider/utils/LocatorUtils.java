@@ -0,0 +1,105 @@
+package com.insider.utils;
+
+import org.openqa.selenium.By;
+
+import java.util.List;
+
+/**
+ * Translates Selenium {@link By} locators into arguments for in-page scripts, so several
+ * elements can be resolved inside one {@code executeScript} call.
+ */
+public class LocatorUtils {
+
+    /**
+     * JavaScript helper resolving a locator produced by {@link #toScriptLocator(By)}.
+     * Declares {@code findAll(locator, root)} returning an array of elements.
+     */
+    public static final String FIND_ALL_FUNCTION =
+            "function findAll(locator, root) {" +
+            "  root = root || document;" +
+            "  if (locator[0] === 'css') { return Array.prototype.slice.call(root.querySelectorAll(locator[1])); }" +
+            "  var snapshot = document.evaluate(locator[1], root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "  var found = [];" +
+            "  for (var i = 0; i < snapshot.snapshotLength; i++) { found.push(snapshot.snapshotItem(i)); }" +
+            "  return found;" +
+            "}";
+
+    /**
+     * JavaScript helper declaring {@code isVisible(element)}, an approximation of WebDriver's
+     * displayedness check that needs no extra round-trip.
+     */
+    public static final String IS_VISIBLE_FUNCTION =
+            "function isVisible(el) {" +
+            "  if (!el || !el.isConnected || el.getClientRects().length === 0) { return false; }" +
+            "  var style = window.getComputedStyle(el);" +
+            "  return style.visibility !== 'hidden' && style.display !== 'none' && parseFloat(style.opacity || '1') > 0;" +
+            "}";
+
+    /**
+     * JavaScript helper declaring {@code readRecord(item, fields)}. Each field selector is a CSS
+     * selector relative to the item; a {@code @attribute} suffix reads that attribute instead of the
+     * rendered text (e.g. {@code "a@href"}).
+     */
+    public static final String READ_RECORD_FUNCTION =
+            "function readRecord(item, fields) {" +
+            "  var record = {};" +
+            "  Object.keys(fields).forEach(function (name) {" +
+            "    var parts = fields[name].split('@');" +
+            "    var el = parts[0] ? item.querySelector(parts[0]) : item;" +
+            "    record[name] = !el ? null : parts.length > 1 ? el.getAttribute(parts[1]) : el.innerText.trim();" +
+            "  });" +
+            "  return record;" +
+            "}";
+
+    /**
+     * Builds a {@code [strategy, expression]} pair for {@link #FIND_ALL_FUNCTION} from the locator's
+     * remote parameters (strategy and raw value). Values are embedded as quoted CSS strings or XPath
+     * literals, so quotes and backslashes in an id, name or link text cannot break the expression.
+     */
+    public static List<String> toScriptLocator(By by) {
+        if (!(by instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Unsupported locator for script evaluation: " + by
+                    + ". Use one of the built-in By locators (id, name, className, tagName, cssSelector, xpath, linkText, partialLinkText).");
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) by).getRemoteParameters();
+        String value = String.valueOf(parameters.value());
+        switch (parameters.using()) {
+            case "css selector":
+                return List.of("css", value);
+            case "xpath":
+                return List.of("xpath", value);
+            case "id":
+                return List.of("css", "[id=" + cssString(value) + "]");
+            case "name":
+                return List.of("css", "[name=" + cssString(value) + "]");
+            case "class name":
+                return List.of("css", "[class~=" + cssString(value) + "]");
+            case "tag name":
+                return List.of("css", value);
+            case "link text":
+                return List.of("xpath", "//a[normalize-space(.)=" + xpathLiteral(value) + "]");
+            case "partial link text":
+                return List.of("xpath", "//a[contains(normalize-space(.)," + xpathLiteral(value) + ")]");
+            default:
+                throw new IllegalArgumentException("Unsupported locator strategy for script evaluation: " + parameters.using());
+        }
+    }
+
+    private static String cssString(String value) {
+        return "'" + value.replace("\\", "\\\\").replace("'", "\\'").replace("\n", "\\a ") + "'";
+    }
+
+    /**
+     * XPath 1.0 has no escape sequences: a value containing both quote characters is split into
+     * quoted parts joined with {@code concat()}.
+     */
+    private static String xpathLiteral(String value) {
+        if (!value.contains("'")) {
+            return "'" + value + "'";
+        }
+        if (!value.contains("\"")) {
+            return "\"" + value + "\"";
+        }
+        return "concat('" + value.replace("'", "', \"'\", '") + "')";
+    }
+}
@@ -0,0 +1,11 @@
+package com.insider.utils;
+
+import com.insider.enums.ElementState;
+import org.openqa.selenium.By;
+
+public record LocatorWaitResult(String name, By locator, ElementState state, long elapsedMillis) {
+
+    public boolean isVisible() {
+        return state == ElementState.VISIBLE;
+    }
+}
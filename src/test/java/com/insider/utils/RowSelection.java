@@ -0,0 +1,43 @@
+package com.insider.utils;
+
+/**
+ * Rows of a test-data file a run is responsible for: the index range {@code [from, to)} and, within
+ * it, every {@code shardCount}-th row starting at {@code shardIndex}. {@code to < 0} means "until
+ * the end of the file".
+ */
+public record RowSelection(int from, int to, int shardIndex, int shardCount) {
+
+    public RowSelection {
+        if (from < 0 || (to >= 0 && to < from)) {
+            throw new IllegalArgumentException("Invalid data row range [" + from + ", " + to + "). "
+                    + "Expected 0 <= data.rows.from <= data.rows.to, or data.rows.to=-1 for the rest of the file.");
+        }
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("Invalid data shard " + shardIndex + " of " + shardCount + ". "
+                    + "Expected data.shard.count >= 1 and 0 <= data.shard.index < data.shard.count.");
+        }
+    }
+
+    public static RowSelection fromConfig() {
+        return new RowSelection(
+                ConfigReader.getIntProperty("data.rows.from", 0),
+                ConfigReader.getIntProperty("data.rows.to", -1),
+                ConfigReader.getIntProperty("data.shard.index", 0),
+                ConfigReader.getIntProperty("data.shard.count", 1));
+    }
+
+    /**
+     * The same row range as a single shard, for callers that split the rows themselves.
+     */
+    public RowSelection withoutSharding() {
+        return new RowSelection(from, to, 0, 1);
+    }
+
+    public boolean includes(int index) {
+        return index >= from && !isPastEnd(index) && (index - from) % shardCount == shardIndex;
+    }
+
+    public boolean isPastEnd(int index) {
+        return to >= 0 && index >= to;
+    }
+}
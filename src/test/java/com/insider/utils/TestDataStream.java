@@ -0,0 +1,255 @@
+package com.insider.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Lazily reads test-data rows from JSON (array of objects), JSON Lines ({@code .jsonl}/{@code .ndjson})
+ * or CSV (header row) files. Rows are parsed one at a time while the iterator is consumed, and rows
+ * outside the {@link RowSelection} are skipped without being bound to a map, so a shard only pays
+ * for its own slice of a large file.
+ */
+public class TestDataStream {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestDataStream.class);
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    public static Iterator<Map<String, String>> open(String filePath) {
+        return open(filePath, RowSelection.fromConfig());
+    }
+
+    public static Iterator<Map<String, String>> open(String filePath, RowSelection selection) {
+        logger.info("Streaming test data from {} (rows {}..{}, shard {} of {}).", filePath, selection.from(),
+                selection.to() < 0 ? "end" : selection.to(), selection.shardIndex(), selection.shardCount());
+        File file = new File(filePath);
+        String name = file.getName().toLowerCase();
+        try {
+            RowReader reader;
+            if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+                reader = new JsonLinesReader(file);
+            } else if (name.endsWith(".csv")) {
+                reader = new CsvReader(file);
+            } else if (name.endsWith(".json")) {
+                reader = new JsonArrayReader(file);
+            } else {
+                throw new IllegalArgumentException("Unsupported test data format: " + filePath
+                        + ". Supported extensions are .json, .jsonl, .ndjson and .csv.");
+            }
+            return new SelectedRows(reader, selection, filePath);
+        } catch (IOException e) {
+            logger.error("Failed to open test data file: {}. Error: {}", filePath, e.getMessage(), e);
+            throw new UncheckedIOException("Cannot read test data from: " + filePath, e);
+        }
+    }
+
+    private interface RowReader extends Closeable {
+
+        boolean hasNextRow() throws IOException;
+
+        Map<String, String> readRow() throws IOException;
+
+        void skipRow() throws IOException;
+    }
+
+    private static class SelectedRows implements Iterator<Map<String, String>> {
+
+        private final RowReader reader;
+        private final RowSelection selection;
+        private final String filePath;
+        private Map<String, String> next;
+        private int index;
+        private int returned;
+        private boolean closed;
+
+        SelectedRows(RowReader reader, RowSelection selection, String filePath) {
+            this.reader = reader;
+            this.selection = selection;
+            this.filePath = filePath;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            if (closed) {
+                return false;
+            }
+            try {
+                while (!selection.isPastEnd(index) && reader.hasNextRow()) {
+                    int current = index++;
+                    if (selection.includes(current)) {
+                        next = reader.readRow();
+                        returned++;
+                        return true;
+                    }
+                    reader.skipRow();
+                }
+                close();
+                return false;
+            } catch (IOException e) {
+                closeQuietly();
+                throw new UncheckedIOException("Cannot read row " + index + " of test data file: " + filePath, e);
+            }
+        }
+
+        @Override
+        public Map<String, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more selected rows in " + filePath);
+            }
+            Map<String, String> row = next;
+            next = null;
+            return row;
+        }
+
+        private void close() throws IOException {
+            closed = true;
+            reader.close();
+            logger.info("Streamed {} selected row(s) out of {} read from {}.", returned, index, filePath);
+        }
+
+        private void closeQuietly() {
+            try {
+                close();
+            } catch (IOException e) {
+                logger.debug("Failed to close test data file {}: {}", filePath, e.getMessage());
+            }
+        }
+    }
+
+    private static class JsonArrayReader implements RowReader {
+
+        private final JsonParser parser;
+        private JsonToken current;
+
+        JsonArrayReader(File file) throws IOException {
+            parser = JsonDataReader.MAPPER.getFactory().createParser(file);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.close();
+                throw new IllegalArgumentException("Expected a JSON array of row objects in " + file);
+            }
+        }
+
+        @Override
+        public boolean hasNextRow() throws IOException {
+            if (current == null) {
+                current = parser.nextToken();
+            }
+            return current == JsonToken.START_OBJECT;
+        }
+
+        @Override
+        public Map<String, String> readRow() throws IOException {
+            current = null;
+            return JsonDataReader.MAPPER.readValue(parser, JsonDataReader.ROW_TYPE);
+        }
+
+        @Override
+        public void skipRow() throws IOException {
+            current = null;
+            parser.skipChildren();
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    private static class JsonLinesReader implements RowReader {
+
+        private final BufferedReader lines;
+        private String pending;
+
+        JsonLinesReader(File file) throws IOException {
+            lines = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean hasNextRow() throws IOException {
+            while (pending == null) {
+                String line = lines.readLine();
+                if (line == null) {
+                    return false;
+                }
+                if (!line.isBlank()) {
+                    pending = line;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Map<String, String> readRow() throws IOException {
+            String line = pending;
+            pending = null;
+            return JsonDataReader.MAPPER.readValue(line, JsonDataReader.ROW_TYPE);
+        }
+
+        @Override
+        public void skipRow() {
+            pending = null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            lines.close();
+        }
+    }
+
+    /**
+     * Reads the CSV token stream directly: a skipped row is tokenized by the parser but never bound
+     * to a map.
+     */
+    private static class CsvReader implements RowReader {
+
+        private final JsonParser parser;
+        private JsonToken current;
+
+        CsvReader(File file) throws IOException {
+            parser = CSV_MAPPER.getFactory().createParser(file);
+            parser.setSchema(CsvSchema.emptySchema().withHeader());
+        }
+
+        @Override
+        public boolean hasNextRow() throws IOException {
+            if (current == null) {
+                current = parser.nextToken();
+            }
+            return current == JsonToken.START_OBJECT;
+        }
+
+        @Override
+        public Map<String, String> readRow() throws IOException {
+            current = null;
+            return CSV_MAPPER.readValue(parser, JsonDataReader.ROW_TYPE);
+        }
+
+        @Override
+        public void skipRow() throws IOException {
+            current = null;
+            parser.skipChildren();
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
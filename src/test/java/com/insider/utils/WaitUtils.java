@@ -1,29 +1,84 @@
 package com.insider.utils;
 
 import com.insider.driver.DriverManager;
+import com.insider.enums.ElementState;
+import com.insider.metrics.StepMetrics;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Sleeper;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public class WaitUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(WaitUtils.class);
     private static final int DEFAULT_TIMEOUT_SECONDS = ConfigReader.getIntProperty("wait.timeout.seconds");
+    private static final Duration OPTIONAL_TIMEOUT = Duration.ofMillis(ConfigReader.getIntProperty("optional.wait.timeout.millis", 2000));
+    private static final Duration OPTIONAL_POLLING = Duration.ofMillis(ConfigReader.getIntProperty("optional.wait.polling.millis", 100));
+    private static final String WAIT_STRATEGY = ConfigReader.getProperty("wait.strategy", "POLLING").toUpperCase();
+    private static final long BACKOFF_INITIAL_MILLIS = ConfigReader.getIntProperty("wait.backoff.initial.millis", 25);
+    private static final long BACKOFF_MAX_MILLIS = ConfigReader.getIntProperty("wait.backoff.max.millis", 500);
+    private static final int MAX_EVENT_ATTEMPTS = 5;
+    private static final String ELEMENT_STATES_SCRIPT = LocatorUtils.FIND_ALL_FUNCTION + LocatorUtils.IS_VISIBLE_FUNCTION +
+            "return arguments[0].map(function (locator) {" +
+            "  var el = findAll(locator)[0];" +
+            "  return !el ? 'MISSING' : isVisible(el) ? 'VISIBLE' : 'PRESENT';" +
+            "});";
     private static final ThreadLocal<WebDriverWait> waitThreadLocal = new ThreadLocal<>();
 
+    /**
+     * Resolves with the first element matched by the locator (mirroring WebDriver's locator-based
+     * conditions) as soon as it is visible/clickable, using a MutationObserver instead of polling.
+     * A low-frequency interval covers changes that do not mutate the DOM, such as CSS transitions.
+     * Resolves with null when the in-page timeout expires.
+     */
+    private static final String DOM_CONDITION_SCRIPT = LocatorUtils.FIND_ALL_FUNCTION + LocatorUtils.IS_VISIBLE_FUNCTION +
+            "var locator = arguments[0], clickable = arguments[1], timeout = arguments[2];" +
+            "var done = arguments[arguments.length - 1];" +
+            "function match() {" +
+            "  var el = findAll(locator)[0];" +
+            "  return el && isVisible(el) && !(clickable && el.disabled) ? el : null;" +
+            "}" +
+            "var found = match();" +
+            "if (found) { done(found); return; }" +
+            "var finished = false, observer, timer, ticker;" +
+            "function finish(result) {" +
+            "  if (finished) { return; }" +
+            "  finished = true; observer.disconnect(); clearTimeout(timer); clearInterval(ticker); done(result);" +
+            "}" +
+            "function check() { var el = match(); if (el) { finish(el); } }" +
+            "observer = new MutationObserver(check);" +
+            "observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true});" +
+            "ticker = setInterval(check, 250);" +
+            "timer = setTimeout(function () { finish(null); }, timeout);";
+
     private static WebDriverWait getWait() {
         if (waitThreadLocal.get() == null) {
             WebDriver driver = DriverManager.getDriver();
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS));
+            if ("EVENT".equals(WAIT_STRATEGY)) {
+                driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS + 5L));
+            }
             waitThreadLocal.set(wait);
             logger.debug("New WebDriverWait initialized for this thread with timeout {} seconds", DEFAULT_TIMEOUT_SECONDS);
         }
@@ -37,40 +92,234 @@ public class WaitUtils {
 
     private static <T> T waitWithRetry(ExpectedCondition<T> condition, String description) {
         int attempts = 0;
+        StaleElementReferenceException lastStale = null;
         while (attempts < 3) {
             try {
                 return getWait().until(condition);
             } catch (StaleElementReferenceException e) {
                 attempts++;
+                lastStale = e;
+                StepMetrics.recordStaleRetry(description);
                 logger.warn("StaleElementReferenceException on attempt {} while waiting for {}. Retrying...", attempts, description);
             }
         }
-        throw new RuntimeException("Element became stale after multiple attempts: " + description);
+        throw new RuntimeException("Element became stale after multiple attempts: " + description, lastStale);
+    }
+
+    /**
+     * Event-driven wait: an in-page MutationObserver reports the element as soon as the DOM satisfies
+     * the condition, and WebDriver confirms it once. Navigations that unload the document restart the
+     * observer; if async scripts are unavailable the remaining time is spent in adaptive backoff polling.
+     */
+    private static WebElement waitForDomCondition(By by, boolean clickable, ExpectedCondition<WebElement> condition, String description) {
+        WebDriver driver = DriverManager.getDriver();
+        getWait();
+        long deadline = System.currentTimeMillis() + Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS).toMillis();
+        for (int attempt = 1; attempt <= MAX_EVENT_ATTEMPTS; attempt++) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                break;
+            }
+            try {
+                Object found = ((JavascriptExecutor) driver).executeAsyncScript(DOM_CONDITION_SCRIPT,
+                        LocatorUtils.toScriptLocator(by), clickable, remaining);
+                if (found instanceof WebElement) {
+                    WebElement confirmed = condition.apply(driver);
+                    if (confirmed != null) {
+                        return confirmed;
+                    }
+                    logger.debug("DOM reported {} but WebDriver did not confirm it. Switching to polling.", description);
+                }
+                break;
+            } catch (UnsupportedCommandException | ScriptTimeoutException e) {
+                logger.debug("Async script wait unavailable for {}. Falling back to polling. Reason: {}", description, e.getMessage());
+                break;
+            } catch (StaleElementReferenceException e) {
+                StepMetrics.recordStaleRetry(description);
+                logger.debug("Element went stale during event-driven wait for {} (attempt {}). Re-installing observer.", description, attempt);
+            } catch (JavascriptException | NotFoundException e) {
+                logger.debug("Document changed during event-driven wait for {} (attempt {}). Re-installing observer.", description, attempt);
+            }
+        }
+        long remaining = Math.max(deadline - System.currentTimeMillis(), 0);
+        return waitWithBackoff(condition, description, Duration.ofMillis(remaining));
+    }
+
+    /**
+     * Stale elements are retried by the poll loop; each one is still counted in the step metrics.
+     */
+    private static <T> T waitWithBackoff(ExpectedCondition<T> condition, String description, Duration timeout) {
+        return new FluentWait<>(DriverManager.getDriver(), Clock.systemDefaultZone(), backoffSleeper())
+                .withTimeout(timeout)
+                .pollingEvery(Duration.ofMillis(BACKOFF_INITIAL_MILLIS))
+                .ignoring(NotFoundException.class)
+                .ignoring(StaleElementReferenceException.class)
+                .withMessage(() -> "waiting for " + description)
+                .until(driver -> {
+                    try {
+                        return condition.apply(driver);
+                    } catch (StaleElementReferenceException e) {
+                        StepMetrics.recordStaleRetry(description);
+                        throw e;
+                    }
+                });
+    }
+
+    private static Sleeper backoffSleeper() {
+        long[] nextSleepMillis = {BACKOFF_INITIAL_MILLIS};
+        return duration -> {
+            Thread.sleep(nextSleepMillis[0]);
+            nextSleepMillis[0] = Math.min(nextSleepMillis[0] * 2, BACKOFF_MAX_MILLIS);
+        };
     }
 
     public static WebElement waitForVisibility(By by) {
-        logger.info("STEP: Wait for element '{}' to be visible", by);
-        return waitWithRetry(ExpectedConditions.visibilityOfElementLocated(by), "visibility of " + by);
+        logger.debug("STEP: Wait for element '{}' to be visible", by);
+        long start = System.nanoTime();
+        try {
+            if ("EVENT".equals(WAIT_STRATEGY)) {
+                return waitForDomCondition(by, false, ExpectedConditions.visibilityOfElementLocated(by), "visibility of " + by);
+            }
+            return waitWithRetry(ExpectedConditions.visibilityOfElementLocated(by), "visibility of " + by);
+        } finally {
+            StepMetrics.record("wait.visibility", by, start);
+        }
     }
 
     public static List<WebElement> waitForVisibilityOfAllElements(By by) {
-        logger.info("STEP: Wait for all elements '{}' to be visible", by);
-        return waitWithRetry(ExpectedConditions.visibilityOfAllElementsLocatedBy(by), "visibility of all elements " + by);
+        logger.debug("STEP: Wait for all elements '{}' to be visible", by);
+        long start = System.nanoTime();
+        try {
+            return waitWithRetry(ExpectedConditions.visibilityOfAllElementsLocatedBy(by), "visibility of all elements " + by);
+        } finally {
+            StepMetrics.record("wait.visibilityOfAll", by, start);
+        }
     }
 
     public static WebElement waitForClickability(By by) {
-        logger.info("STEP: Wait for element '{}' to be clickable", by);
-        return waitWithRetry(ExpectedConditions.elementToBeClickable(by), "clickability of " + by);
+        logger.debug("STEP: Wait for element '{}' to be clickable", by);
+        long start = System.nanoTime();
+        try {
+            if ("EVENT".equals(WAIT_STRATEGY)) {
+                return waitForDomCondition(by, true, ExpectedConditions.elementToBeClickable(by), "clickability of " + by);
+            }
+            return waitWithRetry(ExpectedConditions.elementToBeClickable(by), "clickability of " + by);
+        } finally {
+            StepMetrics.record("wait.clickability", by, start);
+        }
     }
 
     public static void waitForNumberOfWindowsToBe(int numberOfWindows) {
-        logger.info("STEP: Wait until number of windows/tabs is {}", numberOfWindows);
+        logger.debug("STEP: Wait until number of windows/tabs is {}", numberOfWindows);
+        long start = System.nanoTime();
         try {
             getWait().until(driver -> driver.getWindowHandles().size() == numberOfWindows);
             logger.debug("Number of windows/tabs reached {}", numberOfWindows);
         } catch (Exception e) {
             logger.error("Number of windows/tabs did not reach {} within {} seconds. Error: {}", numberOfWindows, DEFAULT_TIMEOUT_SECONDS, e.getMessage());
             throw new RuntimeException("Failed to wait for number of windows: " + numberOfWindows, e);
+        } finally {
+            StepMetrics.record("wait.windows", numberOfWindows, start);
+        }
+    }
+
+    /**
+     * Waits until {@code script} returns {@code true}, polling with adaptive backoff so a condition
+     * that is met within a few milliseconds is not held back by a fixed polling interval.
+     */
+    public static void waitForScriptCondition(String description, String script, Object... args) {
+        logger.debug("STEP: Wait until {}", description);
+        long start = System.nanoTime();
+        try {
+            waitWithBackoff(driver -> Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(script, args)) ? Boolean.TRUE : null,
+                    description, Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS));
+        } finally {
+            StepMetrics.record("wait.script", description, start);
+        }
+    }
+
+    public static void waitForDocumentReady() {
+        logger.debug("Waiting for document.readyState to be 'complete'");
+        long start = System.nanoTime();
+        try {
+            getWait().until(driver -> "complete".equals(((JavascriptExecutor) driver).executeScript("return document.readyState;")));
+        } finally {
+            StepMetrics.record("wait.documentReady", "document", start);
+        }
+    }
+
+    /**
+     * Probes for an element that may legitimately be absent. Once the document has loaded, the DOM is
+     * checked immediately and then re-checked only for the short optional budget
+     * ({@code optional.wait.timeout.millis}) instead of the full explicit wait timeout.
+     */
+    public static Optional<WebElement> waitForOptionalElement(By by, boolean clickable) {
+        logger.debug("STEP: Probe optional element '{}' (clickable: {})", by, clickable);
+        waitForDocumentReady();
+        long start = System.nanoTime();
+        ExpectedCondition<WebElement> condition = clickable
+                ? ExpectedConditions.elementToBeClickable(by)
+                : ExpectedConditions.visibilityOfElementLocated(by);
+        WebDriverWait optionalWait = new WebDriverWait(DriverManager.getDriver(), OPTIONAL_TIMEOUT, OPTIONAL_POLLING);
+        optionalWait.ignoring(StaleElementReferenceException.class);
+        try {
+            WebElement element = optionalWait.until(driver -> driver.findElements(by).isEmpty() ? null : condition.apply(driver));
+            logger.debug("Optional element '{}' is available.", by);
+            return Optional.of(element);
+        } catch (TimeoutException e) {
+            logger.debug("Optional element '{}' not available within {} ms.", by, OPTIONAL_TIMEOUT.toMillis());
+            return Optional.empty();
+        } finally {
+            StepMetrics.record("wait.optional", by, start);
+        }
+    }
+
+    /**
+     * Waits for several locators at once. Every poll cycle evaluates all of them in a single script
+     * call, so the wait ends when the slowest element is visible (or the timeout expires) and never
+     * pays one timeout per missing element. Results keep the insertion order of {@code locators}.
+     */
+    public static Map<String, LocatorWaitResult> waitForAllVisible(Map<String, By> locators) {
+        logger.debug("STEP: Wait for {} element(s) to be visible: {}", locators.size(), locators.keySet());
+        List<String> names = new ArrayList<>(locators.keySet());
+        List<List<String>> scriptLocators = new ArrayList<>();
+        names.forEach(name -> scriptLocators.add(LocatorUtils.toScriptLocator(locators.get(name))));
+
+        long startNanos = System.nanoTime();
+        long start = System.currentTimeMillis();
+        Map<String, ElementState> states = new LinkedHashMap<>();
+        Map<String, Long> visibleAfter = new LinkedHashMap<>();
+        names.forEach(name -> states.put(name, ElementState.MISSING));
+        try {
+            new FluentWait<>(DriverManager.getDriver(), Clock.systemDefaultZone(), backoffSleeper())
+                    .withTimeout(Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS))
+                    .ignoring(JavascriptException.class)
+                    .until(driver -> {
+                        @SuppressWarnings("unchecked")
+                        List<String> polled = (List<String>) ((JavascriptExecutor) driver).executeScript(ELEMENT_STATES_SCRIPT, scriptLocators);
+                        long elapsed = System.currentTimeMillis() - start;
+                        for (int i = 0; i < names.size(); i++) {
+                            ElementState state = ElementState.valueOf(polled.get(i));
+                            states.put(names.get(i), state);
+                            if (state == ElementState.VISIBLE) {
+                                visibleAfter.putIfAbsent(names.get(i), elapsed);
+                            }
+                        }
+                        return states.values().stream().allMatch(state -> state == ElementState.VISIBLE);
+                    });
+        } catch (TimeoutException e) {
+            logger.warn("Not all elements became visible within {} seconds: {}", DEFAULT_TIMEOUT_SECONDS, states);
+        } finally {
+            StepMetrics.record("wait.allVisible", locators.keySet(), startNanos);
+        }
+
+        long total = System.currentTimeMillis() - start;
+        Map<String, LocatorWaitResult> results = new LinkedHashMap<>();
+        for (String name : names) {
+            long elapsed = states.get(name) == ElementState.VISIBLE ? visibleAfter.getOrDefault(name, total) : total;
+            results.put(name, new LocatorWaitResult(name, locators.get(name), states.get(name), elapsed));
         }
+        logger.debug("Batch wait results after {} ms: {}", total, results.values());
+        return results;
     }
-}
+}
\ No newline at end of file